@@ -0,0 +1,42 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.AuditLogResponse;
+import com.pmis.demo.dto.AuditRetentionResponse;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.service.AuditLogService;
+import com.pmis.demo.service.AuditRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+    private final AuditRetentionService auditRetentionService;
+
+    // e.g. ?table=Task&projectId=7&field=status&from=2025-01-01T00:00:00&to=2025-04-01T00:00:00
+    @GetMapping
+    public CursorPage<AuditLogResponse> search(
+            @RequestParam(name = "table", required = false) String tableName,
+            @RequestParam(required = false) Long recordId,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(name = "field", required = false) String fieldName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return auditLogService.search(tableName, recordId, employeeId, projectId, fieldName, from, to, cursor, limit);
+    }
+
+    // Runs the nightly compaction and archiving now
+    @PostMapping("/retention")
+    public AuditRetentionResponse runRetention() {
+        return auditRetentionService.run();
+    }
+}
@@ -1,6 +1,7 @@
 package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.TaskComment;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.TaskCommentResponse;
 import com.pmis.demo.service.CommentService;
 import lombok.Getter;
@@ -8,8 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/tasks/{taskId}/comments")
 @RequiredArgsConstructor
@@ -24,8 +23,10 @@ public class CommentController {
     }
 
     @GetMapping
-    public List<TaskCommentResponse> getComments(@PathVariable Long taskId) {
-        return commentService.getComments(taskId);
+    public CursorPage<TaskCommentResponse> getComments(@PathVariable Long taskId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit) {
+        return commentService.getComments(taskId, cursor, limit);
     }
 
     @Getter @Setter
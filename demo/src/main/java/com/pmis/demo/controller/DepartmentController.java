@@ -2,10 +2,14 @@ package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.Department;
 import com.pmis.demo.dto.DepartmentResponse;
+import com.pmis.demo.dto.DepartmentWorkloadResponse;
 import com.pmis.demo.service.DepartmentService;
+import com.pmis.demo.service.WorkloadService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,6 +18,7 @@ import java.util.List;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final WorkloadService workloadService;
 
     @PostMapping
     public Department create(@RequestBody Department department) {
@@ -30,6 +35,13 @@ public class DepartmentController {
         return departmentService.getById(id);
     }
 
+    @GetMapping("/{id}/workload")
+    public DepartmentWorkloadResponse getWorkload(@PathVariable Long id,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return workloadService.getDepartmentWorkload(id, from, to);
+    }
+
     @PutMapping("/{id}")
     public Department update(@PathVariable Long id, @RequestBody Department department) {
         return departmentService.update(id, department);
@@ -0,0 +1,31 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.EarnedValueResponse;
+import com.pmis.demo.dto.PortfolioEarnedValueResponse;
+import com.pmis.demo.service.EarnedValueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class EarnedValueController {
+
+    private final EarnedValueService earnedValueService;
+
+    @GetMapping("/{projectId}/earned-value")
+    public EarnedValueResponse getProjectEarnedValue(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return earnedValueService.getProjectEarnedValue(projectId, asOf);
+    }
+
+    @GetMapping("/earned-value")
+    public PortfolioEarnedValueResponse getPortfolioEarnedValue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return earnedValueService.getPortfolioEarnedValue(asOf);
+    }
+}
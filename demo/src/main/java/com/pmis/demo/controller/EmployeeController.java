@@ -1,6 +1,7 @@
 package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.Employee;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.EmployeeResponse;
 import com.pmis.demo.service.EmployeeService;
 import lombok.Getter;
@@ -8,8 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
@@ -26,8 +25,9 @@ public class EmployeeController {
     }
 
     @GetMapping
-    public List<EmployeeResponse> getAll() {
-        return employeeService.getAll();
+    public CursorPage<EmployeeResponse> getAll(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit) {
+        return employeeService.getAll(cursor, limit);
     }
 
     @GetMapping("/{id}")
@@ -36,8 +36,10 @@ public class EmployeeController {
     }
 
     @GetMapping("/department/{departmentId}")
-    public List<EmployeeResponse> getByDepartment(@PathVariable Long departmentId) {
-        return employeeService.getByDepartment(departmentId);
+    public CursorPage<EmployeeResponse> getByDepartment(@PathVariable Long departmentId,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit) {
+        return employeeService.getByDepartment(departmentId, cursor, limit);
     }
 
     @PutMapping("/{id}")
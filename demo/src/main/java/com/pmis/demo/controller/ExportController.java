@@ -0,0 +1,60 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.ExportFormat;
+import com.pmis.demo.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/projects/{projectId}/tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return respond(exportService.exportTasks(projectId, format), format, "project-" + projectId + "-tasks");
+    }
+
+    // Both dates inclusive
+    @GetMapping("/worklogs")
+    public ResponseEntity<StreamingResponseBody> exportWorkLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return respond(exportService.exportWorkLogs(from, to, format), format, "worklogs-" + from + "-" + to);
+    }
+
+    // from inclusive, to exclusive; either may be omitted
+    @GetMapping("/audit-logs")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return respond(exportService.exportAuditLogs(from, to, format), format, "audit-logs");
+    }
+
+    private ResponseEntity<StreamingResponseBody> respond(StreamingResponseBody body, ExportFormat format, String name) {
+        if (format == ExportFormat.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + ".csv\"")
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -2,15 +2,19 @@ package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.dto.ProjectAsOfResponse;
 import com.pmis.demo.dto.ProjectResponse;
 import com.pmis.demo.service.ProjectService;
+import com.pmis.demo.service.ProjectSnapshotService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -18,6 +22,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectSnapshotService projectSnapshotService;
 
     @PostMapping
     public Project create(@RequestBody ProjectCreateRequest request) {
@@ -31,8 +36,9 @@ public class ProjectController {
     }
 
     @GetMapping
-    public List<ProjectResponse> getAll() {
-        return projectService.getAll();
+    public CursorPage<ProjectResponse> getAll(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit) {
+        return projectService.getAll(cursor, limit);
     }
 
     @GetMapping("/{id}")
@@ -40,6 +46,14 @@ public class ProjectController {
         return projectService.getById(id);
     }
 
+    // Tasks as they were at the given time, e.g. ?timestamp=2025-03-01T09:00:00
+    @GetMapping("/{id}/as-of")
+    public ProjectAsOfResponse getAsOf(@PathVariable Long id,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                       LocalDateTime timestamp) {
+        return projectSnapshotService.getProjectAsOf(id, timestamp);
+    }
+
     @PutMapping("/{id}")
     public Project update(@PathVariable Long id,
                           @RequestParam Long employeeId,
@@ -0,0 +1,29 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.DependencyEdgeRequest;
+import com.pmis.demo.dto.DependencyValidationResponse;
+import com.pmis.demo.dto.ProjectDependencyGraphResponse;
+import com.pmis.demo.service.TaskDependencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/dependencies")
+@RequiredArgsConstructor
+public class ProjectDependencyController {
+
+    private final TaskDependencyService taskDependencyService;
+
+    @GetMapping
+    public ProjectDependencyGraphResponse getAll(@PathVariable Long projectId) {
+        return taskDependencyService.getProjectDependencies(projectId);
+    }
+
+    @PostMapping("/validate")
+    public List<DependencyValidationResponse> validate(@PathVariable Long projectId,
+                                                       @RequestBody List<DependencyEdgeRequest> edges) {
+        return taskDependencyService.validateDependencies(projectId, edges);
+    }
+}
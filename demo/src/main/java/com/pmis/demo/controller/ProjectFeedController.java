@@ -0,0 +1,21 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.service.feed.ProjectFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/feed")
+@RequiredArgsConstructor
+public class ProjectFeedController {
+
+    private final ProjectFeedService projectFeedService;
+
+    // Events: TASK_STATUS, COMMENT_ADDED, RISK_STATUS, MILESTONE_COMPLETED, each carrying the changed row as JSON
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long projectId) {
+        return projectFeedService.subscribe(projectId);
+    }
+}
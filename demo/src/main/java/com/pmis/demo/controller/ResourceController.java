@@ -1,16 +1,22 @@
 package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.Resource;
-import com.pmis.demo.domain.entity.ResourceAllocation;
 import com.pmis.demo.domain.enums.ResourceType;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.dto.ResourceAllocationRequest;
 import com.pmis.demo.dto.ResourceAllocationResponse;
+import com.pmis.demo.dto.ResourceAvailabilityResponse;
+import com.pmis.demo.dto.ResourceOverallocationResponse;
 import com.pmis.demo.dto.ResourceResponse;
+import com.pmis.demo.service.ResourceCapacityService;
 import com.pmis.demo.service.ResourceService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +25,7 @@ import java.util.List;
 public class ResourceController {
 
     private final ResourceService resourceService;
+    private final ResourceCapacityService capacityService;
 
     @PostMapping
     public Resource create(@RequestBody ResourceRequest request) {
@@ -31,8 +38,9 @@ public class ResourceController {
     }
 
     @GetMapping
-    public List<ResourceResponse> getAll() {
-        return resourceService.getAll();
+    public CursorPage<ResourceResponse> getAll(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit) {
+        return resourceService.getAll(cursor, limit);
     }
 
     @GetMapping("/{id}")
@@ -59,13 +67,33 @@ public class ResourceController {
     // 자원 할당
 
     @PostMapping("/{resourceId}/allocate")
-    public ResourceAllocation allocate(@PathVariable Long resourceId,
+    public ResourceAllocationResponse allocate(@PathVariable Long resourceId,
                                        @RequestBody AllocationRequest request) {
         return resourceService.allocateToTask(
                 request.getTaskId(), resourceId, request.getAmountUsed()
         );
     }
 
+    // All-or-nothing; an existing task/resource pair is re-sized to the new amount
+    @PostMapping("/allocations")
+    public List<ResourceAllocationResponse> allocateAll(@RequestBody List<ResourceAllocationRequest> requests) {
+        return resourceService.allocateAll(requests);
+    }
+
+    // Both dates inclusive; allocations count only over their task's planned dates
+    @GetMapping("/{id}/availability")
+    public ResourceAvailabilityResponse getAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return capacityService.getAvailability(id, from, to);
+    }
+
+    @GetMapping("/{id}/overallocations")
+    public List<ResourceOverallocationResponse> getOverallocations(@PathVariable Long id) {
+        return capacityService.getOverallocations(id);
+    }
+
     @GetMapping("/tasks/{taskId}/allocations")
     public List<ResourceAllocationResponse> getAllocationsByTask(@PathVariable Long taskId) {
         return resourceService.getAllocationsByTask(taskId);
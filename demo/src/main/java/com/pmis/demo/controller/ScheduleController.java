@@ -0,0 +1,62 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.ProjectScheduleResponse;
+import com.pmis.demo.dto.ResourceLevelingResponse;
+import com.pmis.demo.dto.ScheduleSimulationResponse;
+import com.pmis.demo.dto.SlipImpactResponse;
+import com.pmis.demo.dto.TaskSlipRequest;
+import com.pmis.demo.service.ResourceLevelingService;
+import com.pmis.demo.service.ScheduleService;
+import com.pmis.demo.service.ScheduleSimulationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/schedule")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleSimulationService simulationService;
+    private final ResourceLevelingService levelingService;
+
+    @GetMapping
+    public ProjectScheduleResponse getSchedule(@PathVariable Long projectId) {
+        return scheduleService.getSchedule(projectId);
+    }
+
+    @GetMapping("/impact")
+    public SlipImpactResponse getImpact(@PathVariable Long projectId,
+                                        @RequestParam Long taskId,
+                                        @RequestParam Integer slipDays) {
+        TaskSlipRequest request = new TaskSlipRequest();
+        request.setTaskId(taskId);
+        request.setSlipDays(slipDays);
+        return scheduleService.analyzeSlip(projectId, request);
+    }
+
+    @PostMapping("/impact")
+    public List<SlipImpactResponse> getImpacts(@PathVariable Long projectId,
+                                               @RequestBody List<TaskSlipRequest> requests) {
+        return scheduleService.analyzeSlips(projectId, requests);
+    }
+
+    @GetMapping("/simulation")
+    public ScheduleSimulationResponse simulate(@PathVariable Long projectId,
+                                               @RequestParam(defaultValue = "10000") int iterations) {
+        return simulationService.simulate(projectId, iterations);
+    }
+
+    @GetMapping("/simulation/nightly")
+    public ScheduleSimulationResponse getNightlySimulation(@PathVariable Long projectId) {
+        return simulationService.getNightly(projectId);
+    }
+
+    // Proposal only; nothing is saved
+    @GetMapping("/leveling")
+    public ResourceLevelingResponse level(@PathVariable Long projectId) {
+        return levelingService.level(projectId);
+    }
+}
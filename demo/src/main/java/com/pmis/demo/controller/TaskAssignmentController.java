@@ -3,6 +3,7 @@ package com.pmis.demo.controller;
 import com.pmis.demo.domain.entity.TaskAssignment;
 import com.pmis.demo.dto.TaskAssignmentByEmployeeResponse;
 import com.pmis.demo.dto.TaskAssignmentByTaskResponse;
+import com.pmis.demo.dto.TaskOverlapResponse;
 import com.pmis.demo.dto.TaskResponseForEmployee;
 import com.pmis.demo.service.TaskAssignmentService;
 import lombok.Getter;
@@ -23,7 +24,8 @@ public class TaskAssignmentController {
     public TaskAssignment assign(@PathVariable Long taskId,
                                  @RequestParam Long employeeId,
                                  @RequestBody AssignmentRequest request) {
-        return assignmentService.assign(taskId, request.getEmployeeId(), request.getRoleId(), employeeId);
+        return assignmentService.assign(taskId, request.getEmployeeId(), request.getRoleId(), employeeId,
+                Boolean.TRUE.equals(request.getRejectOverlaps()));
     }
 
     @GetMapping("/tasks/{taskId}/assignments")
@@ -41,6 +43,23 @@ public class TaskAssignmentController {
         return assignmentService.getAssignedTasks(employeeId);
     }
 
+    // Tasks the employee can read: assigned with a readable role or in a project they manage
+    @GetMapping("/employees/{employeeId}/accessible-tasks")
+    public List<TaskResponseForEmployee> getAccessibleTasks(@PathVariable Long employeeId) {
+        return assignmentService.getAccessibleTasks(employeeId);
+    }
+
+    // Overlap check for a candidate task before assigning it
+    @GetMapping("/employees/{employeeId}/overlaps")
+    public List<TaskOverlapResponse> getOverlaps(@PathVariable Long employeeId, @RequestParam Long taskId) {
+        return assignmentService.getOverlaps(employeeId, taskId);
+    }
+
+    @GetMapping("/employees/{employeeId}/double-bookings")
+    public List<TaskOverlapResponse> getDoubleBookings(@PathVariable Long employeeId) {
+        return assignmentService.getDoubleBookings(employeeId);
+    }
+
     @DeleteMapping("/tasks/{taskId}/assignments")
     public void delete(@PathVariable Long taskId,
                        @RequestParam Long employeeId,
@@ -54,5 +73,6 @@ public class TaskAssignmentController {
     public static class AssignmentRequest {
         private Long employeeId;
         private Long roleId;
+        private Boolean rejectOverlaps;
     }
 }
@@ -2,7 +2,10 @@ package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.Task;
 import com.pmis.demo.domain.enums.TaskStatus;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.TaskCreateRequest;
+import com.pmis.demo.dto.TaskDateUpdateResponse;
+import com.pmis.demo.dto.TaskDatesRequest;
 import com.pmis.demo.dto.TaskResponse;
 import com.pmis.demo.dto.TaskResponseForEmployee;
 import com.pmis.demo.service.TaskService;
@@ -28,13 +31,16 @@ public class TaskController {
                 .endDate(request.getEndDate())
                 .status(request.getStatus())
                 .priority(request.getPriority())
+                .estimatedHours(request.getEstimatedHours())
                 .build();
         return taskService.createTask(projectId, employeeId, task);
     }
 
     @GetMapping
-    public List<TaskResponse> getTasks(@PathVariable Long projectId) {
-        return taskService.getTasksByProject(projectId);
+    public CursorPage<TaskResponse> getTasks(@PathVariable Long projectId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit) {
+        return taskService.getTasksByProject(projectId, cursor, limit);
     }
 
     @GetMapping("/accessibles")
@@ -43,6 +49,13 @@ public class TaskController {
         return taskService.getAccessibleTasksByEmployee(projectId, employeeId);
     }
 
+    @GetMapping("/{taskId}")
+    public TaskResponse getTask(@PathVariable Long projectId,
+                                @PathVariable Long taskId,
+                                @RequestParam Long employeeId) {
+        return taskService.getTaskForEmployee(projectId, taskId, employeeId);
+    }
+
     @PatchMapping("/{taskId}/status")
     public Task updateStatus(@PathVariable Long projectId,
                              @PathVariable Long taskId,
@@ -51,6 +64,14 @@ public class TaskController {
         return taskService.updateStatus(projectId, taskId, status, employeeId);
     }
 
+    @PatchMapping("/{taskId}/dates")
+    public TaskDateUpdateResponse updateDates(@PathVariable Long projectId,
+                                              @PathVariable Long taskId,
+                                              @RequestParam Long employeeId,
+                                              @RequestBody TaskDatesRequest request) {
+        return taskService.updateDates(projectId, taskId, request.getStartDate(), request.getEndDate(), employeeId);
+    }
+
     @DeleteMapping("/{taskId}")
     public void deleteTask(@PathVariable Long projectId,
                            @PathVariable Long taskId,
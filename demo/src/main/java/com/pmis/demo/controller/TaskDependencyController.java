@@ -1,7 +1,7 @@
 package com.pmis.demo.controller;
 
-import com.pmis.demo.domain.entity.TaskDependency;
 import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.TaskDependencyChangeResponse;
 import com.pmis.demo.dto.TaskDependencyResponse;
 import com.pmis.demo.service.TaskDependencyService;
 import lombok.Getter;
@@ -19,9 +19,9 @@ public class TaskDependencyController {
     private final TaskDependencyService taskDependencyService;
 
     @PostMapping
-    public TaskDependency addDependency(@PathVariable Long taskId,
-                                        @RequestParam Long employeeId,
-                                        @RequestBody DependencyRequest request) {
+    public TaskDependencyChangeResponse addDependency(@PathVariable Long taskId,
+                                                      @RequestParam Long employeeId,
+                                                      @RequestBody DependencyRequest request) {
         return taskDependencyService.addDependency(taskId, employeeId, request.getPredecessorTaskId(),
                 request.getType(), request.getLagDays());
     }
@@ -32,10 +32,10 @@ public class TaskDependencyController {
     }
 
     @DeleteMapping
-    public void deleteDependency(@PathVariable Long taskId,
-                                 @RequestParam Long predecessorTaskId,
-                                 @RequestParam Long employeeId) {
-        taskDependencyService.deleteDependency(taskId, predecessorTaskId, employeeId);
+    public TaskDependencyChangeResponse deleteDependency(@PathVariable Long taskId,
+                                                         @RequestParam Long predecessorTaskId,
+                                                         @RequestParam Long employeeId) {
+        return taskDependencyService.deleteDependency(taskId, predecessorTaskId, employeeId);
     }
 
     @Getter @Setter
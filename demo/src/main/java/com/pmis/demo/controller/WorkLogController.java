@@ -1,14 +1,13 @@
 package com.pmis.demo.controller;
 
 import com.pmis.demo.domain.entity.TaskWorkLog;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.TaskWorkLogResponse;
 import com.pmis.demo.dto.WorkLogRequest;
 import com.pmis.demo.service.WorkLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/tasks/{taskId}/worklogs")
 @RequiredArgsConstructor
@@ -29,7 +28,9 @@ public class WorkLogController {
     }
 
     @GetMapping
-    public List<TaskWorkLogResponse> getLogs(@PathVariable Long taskId) {
-        return workLogService.getTaskLogs(taskId);
+    public CursorPage<TaskWorkLogResponse> getLogs(@PathVariable Long taskId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        return workLogService.getTaskLogs(taskId, cursor, limit);
     }
 }
@@ -0,0 +1,23 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.dto.WorkLogImportResponse;
+import com.pmis.demo.service.WorkLogImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/worklogs")
+@RequiredArgsConstructor
+public class WorkLogImportController {
+
+    private final WorkLogImportService workLogImportService;
+
+    // Accepts a JSON array or NDJSON (one entry per line); the body is streamed, not buffered
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public WorkLogImportResponse importLogs(InputStream body) {
+        return workLogImportService.importLogs(body);
+    }
+}
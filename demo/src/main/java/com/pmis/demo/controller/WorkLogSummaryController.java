@@ -0,0 +1,46 @@
+package com.pmis.demo.controller;
+
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import com.pmis.demo.dto.WorkLogSummaryResponse;
+import com.pmis.demo.service.WorkLogRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class WorkLogSummaryController {
+
+    private final WorkLogRollupService workLogRollupService;
+
+    @GetMapping("/employees/{employeeId}/worklogs/summary")
+    public WorkLogSummaryResponse getEmployeeSummary(
+            @PathVariable Long employeeId,
+            @RequestParam(defaultValue = "WEEK") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return workLogRollupService.getSummary(RollupScope.EMPLOYEE, employeeId, granularity, from, to);
+    }
+
+    @GetMapping("/tasks/{taskId}/worklogs/summary")
+    public WorkLogSummaryResponse getTaskSummary(
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return workLogRollupService.getSummary(RollupScope.TASK, taskId, granularity, from, to);
+    }
+
+    @GetMapping("/projects/{projectId}/worklogs/summary")
+    public WorkLogSummaryResponse getProjectSummary(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "MONTH") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return workLogRollupService.getSummary(RollupScope.PROJECT, projectId, granularity, from, to);
+    }
+}
@@ -0,0 +1,46 @@
+package com.pmis.demo.domain.entity;
+
+import com.pmis.demo.domain.enums.AuditAction;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "audit_log")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class AuditLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String tableName;
+
+    @Column(nullable = false)
+    private Long recordId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AuditAction action;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    private Employee employee;
+
+    // Plain id without a foreign key so entries outlive the project
+    private Long projectId;
+
+    @Lob
+    private String oldValue;
+
+    @Lob
+    private String newValue;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(length = 45)
+    private String ipAddress;
+}
@@ -0,0 +1,28 @@
+package com.pmis.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// One changed field of an audit_log entry; values are the column values as text, null when absent
+@Entity
+@Table(name = "audit_log_change")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class AuditLogChange {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "audit_log_id", nullable = false)
+    private AuditLog auditLog;
+
+    @Column(nullable = false, length = 50)
+    private String fieldName;
+
+    @Column(length = 255)
+    private String oldValue;
+
+    @Column(length = 255)
+    private String newValue;
+}
@@ -0,0 +1,31 @@
+package com.pmis.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Task state of a project at takenAt; payload is gzipped JSON {"columns": [...], "tasks": [[id, ...], ...]}
+@Entity
+@Table(name = "project_snapshot")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ProjectSnapshot {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain id without a foreign key so snapshots outlive the project, like audit_log.project_id
+    @Column(nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDateTime takenAt;
+
+    @Column(nullable = false)
+    private Integer taskCount;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+}
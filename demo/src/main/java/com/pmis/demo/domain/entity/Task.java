@@ -5,6 +5,7 @@ import com.pmis.demo.domain.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
@@ -34,4 +35,7 @@ public class Task {
     @Column(nullable = false, length = 20)
     @Builder.Default
     private PriorityLevel priority = PriorityLevel.NORMAL;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal estimatedHours;
 }
@@ -0,0 +1,40 @@
+package com.pmis.demo.domain.entity;
+
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Hours logged per employee/task/project and day/week/month bucket, maintained on every work log write
+@Entity
+@Table(name = "work_log_rollup")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@IdClass(WorkLogRollupId.class)
+public class WorkLogRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private RollupScope scope;
+
+    @Id
+    private Long scopeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private RollupGranularity granularity;
+
+    @Id
+    private LocalDate bucketStart;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal hours;
+
+    @Column(nullable = false)
+    private Long entryCount;
+}
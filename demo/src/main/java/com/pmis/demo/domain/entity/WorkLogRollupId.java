@@ -0,0 +1,18 @@
+package com.pmis.demo.domain.entity;
+
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode
+public class WorkLogRollupId implements Serializable {
+    private RollupScope scope;
+    private Long scopeId;
+    private RollupGranularity granularity;
+    private LocalDate bucketStart;
+}
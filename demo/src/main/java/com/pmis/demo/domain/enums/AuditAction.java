@@ -0,0 +1,7 @@
+package com.pmis.demo.domain.enums;
+
+public enum AuditAction {
+    INSERT,
+    UPDATE,
+    DELETE
+}
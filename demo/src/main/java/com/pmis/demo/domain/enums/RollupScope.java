@@ -0,0 +1,7 @@
+package com.pmis.demo.domain.enums;
+
+public enum RollupScope {
+    EMPLOYEE,
+    TASK,
+    PROJECT
+}
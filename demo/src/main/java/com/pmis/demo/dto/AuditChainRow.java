@@ -0,0 +1,12 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditChainRow {
+    private final String tableName;
+    private final Long recordId;
+    private final Long entries;
+}
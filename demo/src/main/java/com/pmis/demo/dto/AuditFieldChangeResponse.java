@@ -0,0 +1,12 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuditFieldChangeResponse {
+    private final String field;
+    private final String oldValue;
+    private final String newValue;
+}
@@ -0,0 +1,21 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class AuditLogExportRow {
+    private final Long id;
+    private final String tableName;
+    private final Long recordId;
+    private final AuditAction action;
+    private final Long employeeId;
+    private final String oldValue;
+    private final String newValue;
+    private final LocalDateTime changedAt;
+    private final String ipAddress;
+}
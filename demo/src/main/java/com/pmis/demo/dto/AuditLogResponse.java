@@ -0,0 +1,24 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.AuditAction;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class AuditLogResponse {
+    private final Long id;
+    private final String tableName;
+    private final Long recordId;
+    private final AuditAction action;
+    private final Long employeeId;
+    private final Long projectId;
+    private final LocalDateTime changedAt;
+    // Empty for entries written before changes were recorded per field; oldValue/newValue hold their text
+    private final List<AuditFieldChangeResponse> changes;
+    private final String oldValue;
+    private final String newValue;
+}
@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditReplayRow {
+    private final Long recordId;
+    private final AuditAction action;
+    private final String fieldName;
+    private final String oldValue;
+    private final String newValue;
+}
@@ -0,0 +1,16 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AuditRetentionResponse {
+    private final Integer compactedChains;
+    private final Integer entriesRemovedByCompaction;
+    private final List<String> archiveFiles;
+    private final Integer entriesArchived;
+    private final Integer snapshotsDeleted;
+}
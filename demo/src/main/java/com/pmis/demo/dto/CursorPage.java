@@ -0,0 +1,28 @@
+package com.pmis.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset-paginated list; pass nextCursor back as ?cursor= until it is null
+@Getter
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /** Builds a page from up to {@code limit + 1} rows; the extra row only signals that more rows exist. */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        return new CursorPage<>(
+                page.stream().map(mapper).toList(),
+                hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class DepartmentWorkloadResponse {
+    private final Long departmentId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<EmployeeWorkloadResponse> employees;
+}
@@ -0,0 +1,10 @@
+package com.pmis.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class DependencyEdgeRequest {
+    private Long predecessorTaskId;
+    private Long successorTaskId;
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DependencyValidationResponse {
+    private final Long predecessorTaskId;
+    private final Long successorTaskId;
+    private final Boolean valid;
+    private final String reason;
+}
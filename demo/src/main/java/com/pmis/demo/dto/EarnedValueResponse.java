@@ -0,0 +1,26 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Values are in hours; ratios are null while their denominator is zero
+@Getter
+@Builder
+public class EarnedValueResponse {
+    private final Long projectId;
+    private final String projectName;
+    private final LocalDate asOf;
+    private final Integer taskCount;
+    private final BigDecimal budgetAtCompletion;
+    private final BigDecimal plannedValue;
+    private final BigDecimal earnedValue;
+    private final BigDecimal actualCost;
+    private final BigDecimal costVariance;
+    private final BigDecimal scheduleVariance;
+    private final BigDecimal costPerformanceIndex;
+    private final BigDecimal schedulePerformanceIndex;
+    private final BigDecimal estimateAtCompletion;
+}
@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class EmployeeTaskSpanRow {
+    private final Long employeeId;
+    private final Long taskId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -0,0 +1,19 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Day-indexed from the requested start date
+@Getter
+@Builder
+public class EmployeeWorkloadResponse {
+    private final Long employeeId;
+    private final String employeeName;
+    private final Integer peakConcurrentTasks;
+    private final BigDecimal totalLoggedHours;
+    private final List<Integer> concurrentTasks;
+    private final List<BigDecimal> loggedHours;
+}
@@ -0,0 +1,6 @@
+package com.pmis.demo.dto;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class LevelingChangeResponse {
+    private final Long taskId;
+    private final LocalDate previousStart;
+    private final LocalDate previousFinish;
+    private final LocalDate proposedStart;
+    private final LocalDate proposedFinish;
+    private final Integer shiftDays;
+    private final Integer totalFloat;
+}
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class MilestoneForecastResponse {
+    private final Long milestoneId;
+    private final String name;
+    private final LocalDate dueDate;
+    private final LocalDate p50;
+    private final LocalDate p80;
+    private final LocalDate p95;
+    private final Double onTimeProbability;
+}
@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class PortfolioEarnedValueResponse {
+    private final LocalDate asOf;
+    private final EarnedValueResponse total;
+    private final List<EarnedValueResponse> projects;
+}
@@ -0,0 +1,21 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ProjectAsOfResponse {
+    private final Long projectId;
+    private final LocalDateTime asOf;
+    // Snapshot (or current state, before the first snapshot) the state was replayed from, and how many field
+    // changes were applied on top of it
+    private final LocalDateTime snapshotAt;
+    private final Integer replayedChanges;
+    // Oldest retained audit entry; earlier times cannot be reconstructed
+    private final LocalDateTime historyFrom;
+    private final List<TaskAsOfResponse> tasks;
+}
@@ -0,0 +1,17 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import lombok.Builder;
+import lombok.Getter;
+
+// Edge i is predecessorTaskIds[i] -> successorTaskIds[i]
+@Getter
+@Builder
+public class ProjectDependencyGraphResponse {
+    private final Long projectId;
+    private final int edgeCount;
+    private final long[] predecessorTaskIds;
+    private final long[] successorTaskIds;
+    private final DependencyType[] types;
+    private final int[] lagDays;
+}
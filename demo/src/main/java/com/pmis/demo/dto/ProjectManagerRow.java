@@ -0,0 +1,11 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectManagerRow {
+    private final Long projectId;
+    private final Long managerId;
+}
@@ -0,0 +1,17 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class ProjectScheduleResponse {
+    private final Long projectId;
+    private final LocalDate projectStart;
+    private final LocalDate projectFinish;
+    private final List<TaskScheduleResponse> tasks;
+    private final List<Long> criticalPath;
+}
@@ -0,0 +1,12 @@
+package com.pmis.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ResourceAllocationRequest {
+    private Long taskId;
+    private Long resourceId;
+    private Integer amountUsed;
+}
@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ResourceAllocationRow {
+    private final Long taskId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer amountUsed;
+}
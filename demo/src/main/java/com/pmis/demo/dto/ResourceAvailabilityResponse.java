@@ -0,0 +1,17 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ResourceAvailabilityResponse {
+    private final Long resourceId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Integer capacity;
+    private final Integer peakUsage;
+    private final Integer available;
+}
@@ -0,0 +1,17 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ResourceDemandRow {
+    private final Long resourceId;
+    private final Long taskId;
+    private final Long projectId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer amountUsed;
+}
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class ResourceLevelingResponse {
+    private final Long projectId;
+    private final LocalDate projectFinish;
+    private final Integer overallocatedResourceDaysBefore;
+    private final Integer overallocatedResourceDaysAfter;
+    private final List<LevelingChangeResponse> changes;
+    private final List<Long> unresolvedTaskIds;
+}
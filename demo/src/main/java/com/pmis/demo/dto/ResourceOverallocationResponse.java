@@ -0,0 +1,17 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// from/to are null when undated allocations alone exceed capacity on every day
+@Getter
+@Builder
+public class ResourceOverallocationResponse {
+    private final Long resourceId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Integer capacity;
+    private final Integer peakUsage;
+}
@@ -0,0 +1,23 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ScheduleSimulationResponse {
+    private final Long projectId;
+    private final Integer iterations;
+    private final Long openHighRisks;
+    private final Long openCriticalRisks;
+    private final LocalDate plannedFinish;
+    private final LocalDate p50;
+    private final LocalDate p80;
+    private final LocalDate p95;
+    private final List<MilestoneForecastResponse> milestones;
+    private final LocalDateTime simulatedAt;
+}
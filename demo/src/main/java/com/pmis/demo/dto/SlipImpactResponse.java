@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class SlipImpactResponse {
+    private final Long taskId;
+    private final Integer slipDays;
+    private final List<TaskDateChangeResponse> affectedTasks;
+    private final List<ProjectMilestoneResponse> breachedMilestones;
+    private final LocalDate previousProjectFinish;
+    private final LocalDate projectFinish;
+}
@@ -0,0 +1,19 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.PriorityLevel;
+import com.pmis.demo.domain.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class TaskAsOfResponse {
+    private final Long taskId;
+    private final String name;
+    private final TaskStatus status;
+    private final PriorityLevel priority;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -3,9 +3,15 @@ package com.pmis.demo.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
+
 @Getter
 @Builder
 public class TaskAssignmentByEmployeeResponse {
     private final Long taskId;
     private final String taskName;
+    private final Long projectId;
+    private final Long roleId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
 }
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class TaskAssignmentRow {
+    private final Long employeeId;
+    private final Long taskId;
+    private final String taskName;
+    private final Long projectId;
+    private final Long roleId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -5,6 +5,7 @@ import com.pmis.demo.domain.enums.TaskStatus;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter @Setter
@@ -14,4 +15,5 @@ public class TaskCreateRequest {
     private LocalDate endDate;
     private TaskStatus status;
     private PriorityLevel priority;
+    private BigDecimal estimatedHours;
 }
@@ -0,0 +1,16 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class TaskDateChangeResponse {
+    private final Long taskId;
+    private final LocalDate previousStart;
+    private final LocalDate previousFinish;
+    private final LocalDate earlyStart;
+    private final LocalDate earlyFinish;
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskDateUpdateResponse {
+    private final TaskResponse task;
+    private final List<TaskDateChangeResponse> rescheduled;
+}
@@ -0,0 +1,12 @@
+package com.pmis.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter @Setter
+public class TaskDatesRequest {
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskDependencyChangeResponse {
+    private final TaskDependencyResponse dependency;
+    private final List<TaskDateChangeResponse> rescheduled;
+}
@@ -0,0 +1,14 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskDependencyEdge {
+    private final Long predecessorTaskId;
+    private final Long successorTaskId;
+    private final DependencyType type;
+    private final Integer lagDays;
+}
@@ -0,0 +1,19 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class TaskEarnedValueRow {
+    private final Long id;
+    private final Long projectId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final TaskStatus status;
+    private final BigDecimal estimatedHours;
+}
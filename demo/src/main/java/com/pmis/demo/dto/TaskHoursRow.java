@@ -0,0 +1,13 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class TaskHoursRow {
+    private final Long taskId;
+    private final BigDecimal hours;
+}
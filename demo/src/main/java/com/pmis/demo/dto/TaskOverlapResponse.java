@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class TaskOverlapResponse {
+    private final Long taskId;
+    private final Long overlappingTaskId;
+    private final LocalDate overlapStart;
+    private final LocalDate overlapEnd;
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// One row per (task, assignment of the employee); roleId is null when the employee has no assignment
+@Getter
+@AllArgsConstructor
+public class TaskPermissionRow {
+    private final Long taskId;
+    private final Long managerId;
+    private final Long roleId;
+}
@@ -5,6 +5,7 @@ import com.pmis.demo.domain.enums.TaskStatus;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
@@ -17,4 +18,5 @@ public class TaskResponse {
     private final LocalDate endDate;
     private final TaskStatus status;
     private final PriorityLevel priority;
+    private final BigDecimal estimatedHours;
 }
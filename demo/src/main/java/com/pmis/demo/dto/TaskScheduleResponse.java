@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class TaskScheduleResponse {
+    private final Long taskId;
+    private final LocalDate earlyStart;
+    private final LocalDate earlyFinish;
+    private final LocalDate lateStart;
+    private final LocalDate lateFinish;
+    private final Integer totalFloat;
+    private final Boolean critical;
+}
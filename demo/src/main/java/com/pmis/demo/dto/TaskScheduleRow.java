@@ -0,0 +1,16 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.PriorityLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class TaskScheduleRow {
+    private final Long id;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final PriorityLevel priority;
+}
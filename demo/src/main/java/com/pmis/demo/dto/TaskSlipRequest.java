@@ -0,0 +1,10 @@
+package com.pmis.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class TaskSlipRequest {
+    private Long taskId;
+    private Integer slipDays;
+}
@@ -0,0 +1,15 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class WorkLogBucketResponse {
+    private final LocalDate bucketStart;
+    private final BigDecimal hours;
+    private final Long entryCount;
+}
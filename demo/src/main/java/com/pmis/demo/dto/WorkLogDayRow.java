@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class WorkLogDayRow {
+    private final Long employeeId;
+    private final Long taskId;
+    private final Long projectId;
+    private final LocalDate workDate;
+    private final BigDecimal hours;
+    private final Long entryCount;
+}
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class WorkLogExportRow {
+    private final Long id;
+    private final Long taskId;
+    private final Long employeeId;
+    private final LocalDate workDate;
+    private final BigDecimal hours;
+    private final String note;
+}
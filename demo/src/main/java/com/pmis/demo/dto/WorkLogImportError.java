@@ -0,0 +1,12 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WorkLogImportError {
+    // 1-based position of the entry in the request
+    private final Long row;
+    private final String reason;
+}
@@ -0,0 +1,18 @@
+package com.pmis.demo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class WorkLogImportResponse {
+    private final Long received;
+    private final Long inserted;
+    private final Long rejected;
+    private final List<WorkLogImportError> errors;
+    // Set when a malformed entry ended the import; the entries before it were imported
+    private final Long stoppedAtRow;
+    private final String stopReason;
+}
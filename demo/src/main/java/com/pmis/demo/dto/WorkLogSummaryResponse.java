@@ -0,0 +1,19 @@
+package com.pmis.demo.dto;
+
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class WorkLogSummaryResponse {
+    private final RollupScope scope;
+    private final Long scopeId;
+    private final RollupGranularity granularity;
+    private final BigDecimal totalHours;
+    private final List<WorkLogBucketResponse> buckets;
+}
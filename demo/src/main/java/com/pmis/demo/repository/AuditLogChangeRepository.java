@@ -0,0 +1,44 @@
+package com.pmis.demo.repository;
+
+import com.pmis.demo.domain.entity.AuditLogChange;
+import com.pmis.demo.dto.AuditReplayRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface AuditLogChangeRepository extends JpaRepository<AuditLogChange, Long> {
+
+    @Query("select c from AuditLogChange c where c.auditLog.id in :auditLogIds order by c.id")
+    List<AuditLogChange> findByAuditLogIdIn(@Param("auditLogIds") Collection<Long> auditLogIds);
+
+    @Modifying
+    @Query("delete from AuditLogChange c where c.auditLog.id in :auditLogIds")
+    int deleteByAuditLogIdIn(@Param("auditLogIds") Collection<Long> auditLogIds);
+
+    // Field changes of a project's task entries in (from, to], oldest first; rows of one entry stay together
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.pmis.demo.dto.AuditReplayRow(a.recordId, a.action, c.fieldName, c.oldValue, c.newValue) " +
+            "from AuditLogChange c join c.auditLog a where a.tableName = :tableName and a.projectId = :projectId " +
+            "and a.changedAt > :from and a.changedAt <= :to order by a.changedAt, a.id, c.id")
+    Stream<AuditReplayRow> streamForReplay(@Param("tableName") String tableName, @Param("projectId") Long projectId,
+                                           @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Same rows newest first, for undoing changes
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.pmis.demo.dto.AuditReplayRow(a.recordId, a.action, c.fieldName, c.oldValue, c.newValue) " +
+            "from AuditLogChange c join c.auditLog a where a.tableName = :tableName and a.projectId = :projectId " +
+            "and a.changedAt > :from and a.changedAt <= :to order by a.changedAt desc, a.id desc, c.id desc")
+    Stream<AuditReplayRow> streamForUndo(@Param("tableName") String tableName, @Param("projectId") Long projectId,
+                                         @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,74 @@
+package com.pmis.demo.repository;
+
+import com.pmis.demo.domain.entity.AuditLog;
+import com.pmis.demo.domain.enums.AuditAction;
+import com.pmis.demo.dto.AuditChainRow;
+import com.pmis.demo.dto.AuditLogExportRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.pmis.demo.dto.AuditLogExportRow(a.id, a.tableName, a.recordId, a.action, a.employee.id, " +
+            "a.oldValue, a.newValue, a.changedAt, a.ipAddress) from AuditLog a " +
+            "where a.changedAt >= :from and a.changedAt < :to order by a.changedAt, a.id")
+    Stream<AuditLogExportRow> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Newest first; every filter is optional and the page starts after (afterTime, afterId) when given
+    @Query("select a from AuditLog a where (:tableName is null or a.tableName = :tableName) " +
+            "and (:recordId is null or a.recordId = :recordId) " +
+            "and (:employeeId is null or a.employee.id = :employeeId) " +
+            "and (:projectId is null or a.projectId = :projectId) " +
+            "and (:from is null or a.changedAt >= :from) and (:to is null or a.changedAt < :to) " +
+            "and (:fieldName is null or exists " +
+            "(select c.id from AuditLogChange c where c.auditLog = a and c.fieldName = :fieldName)) " +
+            "and (:afterTime is null or a.changedAt < :afterTime or (a.changedAt = :afterTime and a.id < :afterId)) " +
+            "order by a.changedAt desc, a.id desc")
+    List<AuditLog> search(@Param("tableName") String tableName, @Param("recordId") Long recordId,
+                          @Param("employeeId") Long employeeId, @Param("projectId") Long projectId,
+                          @Param("fieldName") String fieldName,
+                          @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                          @Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId, Limit limit);
+
+    Optional<AuditLog> findFirstByOrderByChangedAtAscIdAsc();
+
+    boolean existsByProjectIdAndTableName(Long projectId, String tableName);
+
+    // Keyset chunks in (changed_at, id) order, which idx_audit_timestamp already provides
+    @Query("select a from AuditLog a where a.changedAt >= :from and a.changedAt < :to " +
+            "and (a.changedAt > :afterTime or (a.changedAt = :afterTime and a.id > :afterId)) " +
+            "order by a.changedAt, a.id")
+    List<AuditLog> findChunk(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                             @Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("select new com.pmis.demo.dto.AuditChainRow(a.tableName, a.recordId, count(a)) from AuditLog a " +
+            "where a.action = :action and a.changedAt >= :from and a.changedAt < :to " +
+            "group by a.tableName, a.recordId having count(a) > 1")
+    List<AuditChainRow> findChains(@Param("action") AuditAction action,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select a from AuditLog a where a.tableName = :tableName and a.recordId = :recordId " +
+            "and a.action = :action and a.changedAt >= :from and a.changedAt < :to order by a.changedAt, a.id")
+    List<AuditLog> findChain(@Param("tableName") String tableName, @Param("recordId") Long recordId,
+                             @Param("action") AuditAction action,
+                             @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("delete from AuditLog a where a.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,10 +1,22 @@
 package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     List<Employee> findByDepartmentId(Long departmentId);
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    List<Employee> findByDepartmentIdAndIdGreaterThanOrderByIdAsc(Long departmentId, Long id, Limit limit);
+
+    @Query("select e.id from Employee e where e.id > :afterId order by e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
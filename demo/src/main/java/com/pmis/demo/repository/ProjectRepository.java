@@ -2,10 +2,29 @@ package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.dto.ProjectManagerRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByStatus(ProjectStatus status);
+    List<Project> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select p.id from Project p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select new com.pmis.demo.dto.ProjectManagerRow(p.id, p.manager.id) from Project p where p.id = :id")
+    Optional<ProjectManagerRow> findManagerRowById(@Param("id") Long id);
+
+    // Row lock serializing writes that must see each other's effects within one project
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
 }
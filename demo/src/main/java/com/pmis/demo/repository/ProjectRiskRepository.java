@@ -9,4 +9,5 @@ import java.util.List;
 public interface ProjectRiskRepository extends JpaRepository<ProjectRisk, Long> {
     List<ProjectRisk> findByProjectId(Long projectId);
     List<ProjectRisk> findByLevel(RiskLevel level);
+    long countByProjectIdAndLevelAndStatus(Long projectId, RiskLevel level, String status);
 }
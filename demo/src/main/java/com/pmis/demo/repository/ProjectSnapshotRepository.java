@@ -0,0 +1,37 @@
+package com.pmis.demo.repository;
+
+import com.pmis.demo.domain.entity.ProjectSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectSnapshotRepository extends JpaRepository<ProjectSnapshot, Long> {
+
+    Optional<ProjectSnapshot> findFirstByProjectIdAndTakenAtLessThanEqualOrderByTakenAtDesc(Long projectId,
+                                                                                          LocalDateTime at);
+
+    Optional<ProjectSnapshot> findFirstByProjectIdAndTakenAtBetweenOrderByTakenAtDesc(Long projectId,
+                                                                                    LocalDateTime from,
+                                                                                    LocalDateTime to);
+
+    Optional<ProjectSnapshot> findFirstByProjectIdAndTakenAtAfterOrderByTakenAtAsc(Long projectId,
+                                                                                 LocalDateTime at);
+
+    boolean existsByProjectId(Long projectId);
+
+    // Projects never snapshotted, or with task changes newer than their own latest snapshot
+    @Query("select p.id from Project p " +
+            "where not exists (select s.id from ProjectSnapshot s where s.projectId = p.id) " +
+            "or exists (select a.id from AuditLog a where a.projectId = p.id and a.tableName = :tableName " +
+            "and a.changedAt > (select max(s.takenAt) from ProjectSnapshot s where s.projectId = p.id))")
+    List<Long> findProjectIdsToSnapshot(@Param("tableName") String tableName);
+
+    @Modifying
+    @Query("delete from ProjectSnapshot s where s.takenAt < :before")
+    int deleteByTakenAtBefore(@Param("before") LocalDateTime before);
+}
@@ -2,8 +2,13 @@ package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.ResourceAllocation;
 import com.pmis.demo.domain.entity.ResourceAllocationId;
+import com.pmis.demo.dto.ResourceAllocationRow;
+import com.pmis.demo.dto.ResourceDemandRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ResourceAllocationRepository
@@ -11,4 +16,20 @@ public interface ResourceAllocationRepository
 
     List<ResourceAllocation> findByTaskId(Long taskId);
     List<ResourceAllocation> findByResourceId(Long resourceId);
+
+    @Query("select new com.pmis.demo.dto.ResourceAllocationRow(t.id, t.startDate, t.endDate, a.amountUsed) " +
+            "from ResourceAllocation a join a.task t where a.resource.id = :resourceId")
+    List<ResourceAllocationRow> findRowsByResourceId(@Param("resourceId") Long resourceId);
+
+    // Every allocation of the resources the project uses, including other projects' tasks
+    @Query("select new com.pmis.demo.dto.ResourceDemandRow(a.resource.id, t.id, t.project.id, t.startDate, t.endDate, a.amountUsed) " +
+            "from ResourceAllocation a join a.task t where a.resource.id in " +
+            "(select a2.resource.id from ResourceAllocation a2 where a2.task.project.id = :projectId)")
+    List<ResourceDemandRow> findDemandRowsForProjectResources(@Param("projectId") Long projectId);
+
+    @Query("select a.resource.id from ResourceAllocation a where a.task.id = :taskId")
+    List<Long> findResourceIdsByTaskId(@Param("taskId") Long taskId);
+
+    // Superset of the requested pairs; callers pick the exact (task, resource) combinations
+    List<ResourceAllocation> findByTaskIdInAndResourceIdIn(Collection<Long> taskIds, Collection<Long> resourceIds);
 }
@@ -1,7 +1,11 @@
 package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.Resource;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
+    List<Resource> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.pmis.demo.repository;
+
+/**
+ * Query hint values for repository methods that return a {@code Stream}.
+ */
+public final class StreamingHints {
+
+    // MySQL Connector/J streams the result row by row for this fetch size instead of buffering all of it; the
+    // connection can run nothing else until the stream is closed, so streaming callers must not query meanwhile
+    public static final String FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    private StreamingHints() {
+    }
+}
@@ -2,8 +2,14 @@ package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.TaskAssignment;
 import com.pmis.demo.domain.entity.TaskAssignmentId;
+import com.pmis.demo.dto.EmployeeTaskSpanRow;
+import com.pmis.demo.dto.TaskAssignmentRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskAssignmentRepository
@@ -11,4 +17,28 @@ public interface TaskAssignmentRepository
 
     List<TaskAssignment> findByTaskId(Long taskId);
     List<TaskAssignment> findByEmployeeId(Long employeeId);
+
+    @Query("select distinct ta.task.id from TaskAssignment ta where ta.employee.id = :employeeId and ta.role.id in :roleIds")
+    List<Long> findTaskIdsByEmployeeIdAndRoleIdIn(@Param("employeeId") Long employeeId,
+                                                  @Param("roleIds") Collection<Long> roleIds);
+
+    @Query("select distinct ta.employee.id from TaskAssignment ta where ta.task.id = :taskId")
+    List<Long> findEmployeeIdsByTaskId(@Param("taskId") Long taskId);
+
+    @Query("select new com.pmis.demo.dto.TaskAssignmentRow(ta.employee.id, t.id, t.name, t.project.id, ta.role.id, " +
+            "t.startDate, t.endDate) from TaskAssignment ta join ta.task t where ta.employee.id = :employeeId order by t.id")
+    List<TaskAssignmentRow> findRowsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // One row per employee and dated task, whatever the number of roles; a missing end date means a one-day task
+    @Query("select distinct new com.pmis.demo.dto.EmployeeTaskSpanRow(ta.employee.id, t.id, t.startDate, t.endDate) " +
+            "from TaskAssignment ta join ta.task t where ta.employee.department.id = :departmentId " +
+            "and t.startDate <= :to and (t.startDate >= :from or t.endDate >= :from)")
+    List<EmployeeTaskSpanRow> findSpansByDepartmentId(@Param("departmentId") Long departmentId,
+                                                     @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select distinct new com.pmis.demo.dto.EmployeeTaskSpanRow(ta.employee.id, t.id, t.startDate, t.endDate) " +
+            "from TaskAssignment ta join ta.task t where ta.employee.id = :employeeId and t.startDate is not null")
+    List<EmployeeTaskSpanRow> findSpansByEmployeeId(@Param("employeeId") Long employeeId);
+
+    boolean existsByTaskIdAndEmployeeId(Long taskId, Long employeeId);
 }
@@ -1,10 +1,21 @@
 package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.TaskComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
     List<TaskComment> findByTaskIdOrderByCommentedAtAsc(Long taskId);
+    List<TaskComment> findByTaskIdOrderByCommentedAtAscIdAsc(Long taskId, Limit limit);
+
+    @Query("select c from TaskComment c where c.task.id = :taskId " +
+            "and (c.commentedAt > :commentedAt or (c.commentedAt = :commentedAt and c.id > :id)) " +
+            "order by c.commentedAt asc, c.id asc")
+    List<TaskComment> findPageAfter(@Param("taskId") Long taskId, @Param("commentedAt") LocalDateTime commentedAt,
+                                    @Param("id") Long id, Limit limit);
 }
@@ -2,7 +2,10 @@ package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.TaskDependency;
 import com.pmis.demo.domain.entity.TaskDependencyId;
+import com.pmis.demo.dto.TaskDependencyEdge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +14,13 @@ public interface TaskDependencyRepository
 
     List<TaskDependency> findByPredecessorId(Long predecessorId);
     List<TaskDependency> findBySuccessorId(Long successorId);
+
+    @Query("select new com.pmis.demo.dto.TaskDependencyEdge(d.predecessor.id, d.successor.id, d.type, d.lagDays) " +
+            "from TaskDependency d where d.successor.project.id = :projectId " +
+            "order by d.successor.id, d.predecessor.id")
+    List<TaskDependencyEdge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.pmis.demo.dto.TaskDependencyEdge(d.predecessor.id, d.successor.id, d.type, d.lagDays) " +
+            "from TaskDependency d where d.successor.id = :successorId order by d.predecessor.id")
+    List<TaskDependencyEdge> findEdgesBySuccessorId(@Param("successorId") Long successorId);
 }
@@ -1,12 +1,69 @@
 package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.Task;
+import com.pmis.demo.domain.enums.ProjectStatus;
 import com.pmis.demo.domain.enums.TaskStatus;
+import com.pmis.demo.dto.TaskEarnedValueRow;
+import com.pmis.demo.dto.TaskExportRow;
+import com.pmis.demo.dto.TaskPermissionRow;
+import com.pmis.demo.dto.TaskProjectRow;
+import com.pmis.demo.dto.TaskScheduleRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectId(Long projectId);
     List<Task> findByStatus(TaskStatus status);
+    List<Task> findByProjectIdAndIdGreaterThanOrderByIdAsc(Long projectId, Long id, Limit limit);
+
+    @Query("select new com.pmis.demo.dto.TaskScheduleRow(t.id, t.startDate, t.endDate, t.priority) " +
+            "from Task t where t.project.id = :projectId")
+    List<TaskScheduleRow> findScheduleRowsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.pmis.demo.dto.TaskScheduleRow(t.id, t.startDate, t.endDate, t.priority) " +
+            "from Task t where t.id in :ids")
+    List<TaskScheduleRow> findScheduleRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.id from Task t where t.id > :afterId order by t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select t.id from Task t where t.project.manager.id = :managerId")
+    List<Long> findIdsByManagerId(@Param("managerId") Long managerId);
+
+    @Query("select new com.pmis.demo.dto.TaskPermissionRow(t.id, t.project.manager.id, ta.role.id) " +
+            "from Task t left join TaskAssignment ta on ta.task = t and ta.employee.id = :employeeId where t.project.id = :projectId")
+    List<TaskPermissionRow> findPermissionRowsByProjectId(@Param("employeeId") Long employeeId,
+                                                          @Param("projectId") Long projectId);
+
+    @Query("select new com.pmis.demo.dto.TaskPermissionRow(t.id, t.project.manager.id, ta.role.id) " +
+            "from Task t left join TaskAssignment ta on ta.task = t and ta.employee.id = :employeeId where t.id in :taskIds")
+    List<TaskPermissionRow> findPermissionRowsByIdIn(@Param("employeeId") Long employeeId,
+                                                     @Param("taskIds") Collection<Long> taskIds);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.pmis.demo.dto.TaskExportRow(t.id, t.project.id, t.name, t.startDate, t.endDate, " +
+            "t.status, t.priority, t.estimatedHours) from Task t where t.project.id = :projectId order by t.id")
+    Stream<TaskExportRow> streamForExport(@Param("projectId") Long projectId);
+
+    @Query("select new com.pmis.demo.dto.TaskProjectRow(t.id, t.project.id) from Task t where t.id in :ids")
+    List<TaskProjectRow> findProjectIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.pmis.demo.dto.TaskEarnedValueRow(t.id, t.project.id, t.startDate, t.endDate, " +
+            "t.status, t.estimatedHours) from Task t where t.project.id = :projectId")
+    List<TaskEarnedValueRow> findEarnedValueRowsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.pmis.demo.dto.TaskEarnedValueRow(t.id, p.id, t.startDate, t.endDate, " +
+            "t.status, t.estimatedHours) from Task t join t.project p where p.status = :status")
+    List<TaskEarnedValueRow> findEarnedValueRowsByProjectStatus(@Param("status") ProjectStatus status);
 }
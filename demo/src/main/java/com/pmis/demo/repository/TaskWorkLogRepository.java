@@ -1,12 +1,81 @@
 package com.pmis.demo.repository;
 
 import com.pmis.demo.domain.entity.TaskWorkLog;
+import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.dto.TaskHoursRow;
+import com.pmis.demo.dto.WorkLogDayRow;
+import com.pmis.demo.dto.WorkLogExportRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TaskWorkLogRepository extends JpaRepository<TaskWorkLog, Long> {
     List<TaskWorkLog> findByTaskId(Long taskId);
+    List<TaskWorkLog> findByTaskIdAndIdGreaterThanOrderByIdAsc(Long taskId, Long id, Limit limit);
     List<TaskWorkLog> findByEmployeeIdAndWorkDateBetween(Long employeeId, LocalDate from, LocalDate to);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.pmis.demo.dto.WorkLogExportRow(w.id, w.task.id, w.employee.id, w.workDate, w.hours, w.note) " +
+            "from TaskWorkLog w where w.workDate between :from and :to order by w.workDate, w.id")
+    Stream<WorkLogExportRow> streamForExport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.pmis.demo.dto.TaskHoursRow(t.id, sum(w.hours)) " +
+            "from TaskWorkLog w join w.task t where t.project.id = :projectId and w.workDate <= :asOf " +
+            "group by t.id")
+    List<TaskHoursRow> sumHoursByTaskForProject(@Param("projectId") Long projectId, @Param("asOf") LocalDate asOf);
+
+    @Query("select new com.pmis.demo.dto.TaskHoursRow(t.id, sum(w.hours)) " +
+            "from TaskWorkLog w join w.task t join t.project p where p.status = :status and w.workDate <= :asOf " +
+            "group by t.id")
+    List<TaskHoursRow> sumHoursByTaskForProjectStatus(@Param("status") ProjectStatus status,
+                                                      @Param("asOf") LocalDate asOf);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t where t.id = :taskId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForTask(@Param("taskId") Long taskId);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t where w.employee.id = :employeeId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForEmployee(@Param("employeeId") Long employeeId);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t where w.employee.department.id = :departmentId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForDepartment(@Param("departmentId") Long departmentId);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t where t.project.id = :projectId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForProject(@Param("projectId") Long projectId);
+
+    // Id ranges are (afterId, lastId], for rebuilding the rollup one chunk of employees, tasks or projects at a time
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t " +
+            "where w.employee.id > :afterId and w.employee.id <= :lastId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForEmployeeRange(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t " +
+            "where t.id > :afterId and t.id <= :lastId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForTaskRange(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    @Query("select new com.pmis.demo.dto.WorkLogDayRow(w.employee.id, t.id, t.project.id, w.workDate, " +
+            "sum(w.hours), count(w)) from TaskWorkLog w join w.task t " +
+            "where t.project.id > :afterId and t.project.id <= :lastId " +
+            "group by w.employee.id, t.id, t.project.id, w.workDate")
+    List<WorkLogDayRow> sumHoursByDayForProjectRange(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
 }
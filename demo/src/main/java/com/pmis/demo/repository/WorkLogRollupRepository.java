@@ -0,0 +1,54 @@
+package com.pmis.demo.repository;
+
+import com.pmis.demo.domain.entity.WorkLogRollup;
+import com.pmis.demo.domain.entity.WorkLogRollupId;
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WorkLogRollupRepository extends JpaRepository<WorkLogRollup, WorkLogRollupId> {
+
+    List<WorkLogRollup> findByScopeAndScopeIdAndGranularityOrderByBucketStart(
+            RollupScope scope, Long scopeId, RollupGranularity granularity);
+
+    List<WorkLogRollup> findByScopeAndScopeIdAndGranularityAndBucketStartBetweenOrderByBucketStart(
+            RollupScope scope, Long scopeId, RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    @Query("select r from WorkLogRollup r where r.scope = com.pmis.demo.domain.enums.RollupScope.EMPLOYEE " +
+            "and r.granularity = com.pmis.demo.domain.enums.RollupGranularity.DAY " +
+            "and r.bucketStart between :from and :to " +
+            "and r.scopeId in (select e.id from Employee e where e.department.id = :departmentId)")
+    List<WorkLogRollup> findEmployeeDaysByDepartmentId(@Param("departmentId") Long departmentId,
+                                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from WorkLogRollup r where r.scope = :scope and r.scopeId > :afterId and r.scopeId <= :lastId")
+    int deleteScopeRange(@Param("scope") RollupScope scope, @Param("afterId") Long afterId,
+                         @Param("lastId") Long lastId);
+
+    // All nine buckets touched by one work log entry in a single round trip
+    @Modifying
+    @Query(value = "insert into work_log_rollup (scope, scope_id, granularity, bucket_start, hours, entry_count) values " +
+            "('EMPLOYEE', :employeeId, 'DAY', :day, :hours, :entries), " +
+            "('EMPLOYEE', :employeeId, 'WEEK', :week, :hours, :entries), " +
+            "('EMPLOYEE', :employeeId, 'MONTH', :month, :hours, :entries), " +
+            "('TASK', :taskId, 'DAY', :day, :hours, :entries), " +
+            "('TASK', :taskId, 'WEEK', :week, :hours, :entries), " +
+            "('TASK', :taskId, 'MONTH', :month, :hours, :entries), " +
+            "('PROJECT', :projectId, 'DAY', :day, :hours, :entries), " +
+            "('PROJECT', :projectId, 'WEEK', :week, :hours, :entries), " +
+            "('PROJECT', :projectId, 'MONTH', :month, :hours, :entries) " +
+            "on duplicate key update hours = hours + values(hours), entry_count = entry_count + values(entry_count)",
+            nativeQuery = true)
+    int addToBuckets(@Param("employeeId") Long employeeId, @Param("taskId") Long taskId,
+                     @Param("projectId") Long projectId, @Param("day") LocalDate day,
+                     @Param("week") LocalDate week, @Param("month") LocalDate month,
+                     @Param("hours") BigDecimal hours, @Param("entries") long entries);
+}
@@ -0,0 +1,265 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.dto.EmployeeTaskSpanRow;
+import com.pmis.demo.repository.TaskAssignmentRepository;
+import com.pmis.demo.service.schedule.DependencyGraph;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Employee -> date spans of the dated tasks assigned to them, across all projects, for double-booking checks.
+ * Each employee's spans are an immutable array sorted by start with a running maximum of the ends, which
+ * answers "what overlaps [from, to)" with one binary search and a short backwards scan. Sets are loaded on
+ * first use and then patched by the services that change assignments and task dates; at most
+ * {@code pmis.intervals.cache-size} employees are kept, least recently used first out.
+ */
+@Component
+public class AssignmentIntervalIndex {
+
+    private final TaskAssignmentRepository assignmentRepository;
+    private final GenerationCache<Long, Intervals> spans;
+    // Serialize overlap checks with the assignment they guard, per employee (striped)
+    private final ReentrantLock[] employeeLocks = new ReentrantLock[64];
+
+    public AssignmentIntervalIndex(TaskAssignmentRepository assignmentRepository,
+                                   @Value("${pmis.intervals.cache-size:10000}") int maxEmployees) {
+        this.assignmentRepository = assignmentRepository;
+        this.spans = GenerationCache.lru(maxEmployees);
+        for (int i = 0; i < employeeLocks.length; i++) {
+            employeeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs {@code action} holding the employee's lock, so an overlap check and the assignment it guards cannot
+     * interleave with another check for the same employee. Inside a transaction the lock is held until it
+     * completes, so the next check sees the committed assignment.
+     */
+    public <T> T withEmployeeLock(Long employeeId, Supplier<T> action) {
+        ReentrantLock employeeLock = employeeLocks[Math.floorMod(employeeId.hashCode(), employeeLocks.length)];
+        employeeLock.lock();
+        boolean deferred = false;
+        try {
+            T result = action.get();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                GenerationCache.afterCompletion(employeeLock::unlock);
+                deferred = true;
+            }
+            return result;
+        } finally {
+            if (!deferred) {
+                employeeLock.unlock();
+            }
+        }
+    }
+
+    /** Intervals overlapping {@code [from, to)} in epoch days, excluding {@code taskId} itself. */
+    public List<Span> overlapping(Long employeeId, Long taskId, int from, int to) {
+        return intervals(employeeId).overlapping(taskId != null ? taskId : Long.MIN_VALUE, from, to);
+    }
+
+    public List<Span> overlapping(Long employeeId, Long taskId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null) {
+            return List.of();
+        }
+        int from = (int) startDate.toEpochDay();
+        return overlapping(employeeId, taskId, from, from + DependencyGraph.durationOf(startDate, endDate));
+    }
+
+    /** Every pair of the employee's tasks whose spans overlap, ordered by the earlier start. */
+    public List<Span[]> overlappingPairs(Long employeeId) {
+        return intervals(employeeId).pairs();
+    }
+
+    public void add(Long employeeId, Long taskId, LocalDate startDate, LocalDate endDate) {
+        update(List.of(employeeId), taskId, startDate, endDate);
+    }
+
+    public void remove(Long employeeId, Long taskId) {
+        remove(List.of(employeeId), taskId);
+    }
+
+    public void remove(Collection<Long> employeeIds, Long taskId) {
+        update(employeeIds, taskId, null, null);
+    }
+
+    /** Moves (or, without a start date, drops) the task in the spans of the given assignees. */
+    public void update(Collection<Long> employeeIds, Long taskId, LocalDate startDate, LocalDate endDate) {
+        int start = startDate != null ? (int) startDate.toEpochDay() : 0;
+        int end = startDate != null ? start + DependencyGraph.durationOf(startDate, endDate) : 0;
+        spans.update(employeeIds, (id, current) -> startDate != null
+                ? current.with(taskId, start, end) : current.without(taskId));
+    }
+
+    public void invalidate(Collection<Long> employeeIds) {
+        spans.invalidate(employeeIds);
+    }
+
+    public void invalidateAll() {
+        spans.invalidateAll();
+    }
+
+    private Intervals intervals(Long employeeId) {
+        return spans.get(employeeId, this::load);
+    }
+
+    private Intervals load(Long employeeId) {
+        List<EmployeeTaskSpanRow> rows = assignmentRepository.findSpansByEmployeeId(employeeId);
+        long[] taskIds = new long[rows.size()];
+        int[] starts = new int[rows.size()];
+        int[] ends = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            EmployeeTaskSpanRow row = rows.get(i);
+            taskIds[i] = row.getTaskId();
+            starts[i] = (int) row.getStartDate().toEpochDay();
+            ends[i] = starts[i] + DependencyGraph.durationOf(row.getStartDate(), row.getEndDate());
+        }
+        return rows.isEmpty() ? Intervals.EMPTY : Intervals.of(taskIds, starts, ends);
+    }
+
+    /** A task's span in epoch days, end exclusive. */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Span {
+        private final long taskId;
+        private final int start;
+        private final int end;
+    }
+
+    static final class Intervals {
+
+        static final Intervals EMPTY = new Intervals(new long[0], new int[0], new int[0]);
+
+        // Sorted by (start, taskId); maxEnd[i] is the largest end among positions 0..i
+        private final long[] taskIds;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEnd;
+
+        private Intervals(long[] taskIds, int[] starts, int[] ends) {
+            this.taskIds = taskIds;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnd = new int[ends.length];
+            for (int i = 0; i < ends.length; i++) {
+                maxEnd[i] = i == 0 ? ends[i] : Math.max(maxEnd[i - 1], ends[i]);
+            }
+        }
+
+        static Intervals of(long[] taskIds, int[] starts, int[] ends) {
+            Integer[] order = new Integer[taskIds.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> starts[a] != starts[b]
+                    ? Integer.compare(starts[a], starts[b]) : Long.compare(taskIds[a], taskIds[b]));
+            long[] sortedIds = new long[order.length];
+            int[] sortedStarts = new int[order.length];
+            int[] sortedEnds = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = taskIds[order[i]];
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+            }
+            return new Intervals(sortedIds, sortedStarts, sortedEnds);
+        }
+
+        List<Span> overlapping(long excludedTaskId, int from, int to) {
+            List<Span> result = new ArrayList<>();
+            // Only positions starting before `to` can overlap; walk back until no earlier span reaches `from`
+            for (int i = firstStartAtOrAfter(to) - 1; i >= 0 && maxEnd[i] > from; i--) {
+                if (ends[i] > from && taskIds[i] != excludedTaskId) {
+                    result.add(span(i));
+                }
+            }
+            result.sort((a, b) -> a.getStart() != b.getStart()
+                    ? Integer.compare(a.getStart(), b.getStart()) : Long.compare(a.getTaskId(), b.getTaskId()));
+            return result;
+        }
+
+        List<Span[]> pairs() {
+            List<Span[]> result = new ArrayList<>();
+            for (int i = 0; i < taskIds.length; i++) {
+                for (int j = i + 1; j < taskIds.length && starts[j] < ends[i]; j++) {
+                    result.add(new Span[]{span(i), span(j)});
+                }
+            }
+            return result;
+        }
+
+        Intervals with(long taskId, int start, int end) {
+            Intervals base = without(taskId);
+            int n = base.taskIds.length;
+            int at = 0;
+            while (at < n && (base.starts[at] < start || (base.starts[at] == start && base.taskIds[at] < taskId))) {
+                at++;
+            }
+            long[] ids = new long[n + 1];
+            int[] s = new int[n + 1];
+            int[] e = new int[n + 1];
+            System.arraycopy(base.taskIds, 0, ids, 0, at);
+            System.arraycopy(base.starts, 0, s, 0, at);
+            System.arraycopy(base.ends, 0, e, 0, at);
+            ids[at] = taskId;
+            s[at] = start;
+            e[at] = end;
+            System.arraycopy(base.taskIds, at, ids, at + 1, n - at);
+            System.arraycopy(base.starts, at, s, at + 1, n - at);
+            System.arraycopy(base.ends, at, e, at + 1, n - at);
+            return new Intervals(ids, s, e);
+        }
+
+        Intervals without(long taskId) {
+            int at = -1;
+            for (int i = 0; i < taskIds.length; i++) {
+                if (taskIds[i] == taskId) {
+                    at = i;
+                    break;
+                }
+            }
+            if (at < 0) {
+                return this;
+            }
+            int n = taskIds.length - 1;
+            long[] ids = new long[n];
+            int[] s = new int[n];
+            int[] e = new int[n];
+            System.arraycopy(taskIds, 0, ids, 0, at);
+            System.arraycopy(starts, 0, s, 0, at);
+            System.arraycopy(ends, 0, e, 0, at);
+            System.arraycopy(taskIds, at + 1, ids, at, n - at);
+            System.arraycopy(starts, at + 1, s, at, n - at);
+            System.arraycopy(ends, at + 1, e, at, n - at);
+            return new Intervals(ids, s, e);
+        }
+
+        private int firstStartAtOrAfter(int day) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private Span span(int i) {
+            return new Span(taskIds[i], starts[i], ends[i]);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.AuditLog;
+import com.pmis.demo.domain.entity.AuditLogChange;
+import com.pmis.demo.dto.AuditFieldChangeResponse;
+import com.pmis.demo.dto.AuditLogResponse;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.repository.AuditLogChangeRepository;
+import com.pmis.demo.repository.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogChangeRepository changeRepository;
+
+    /**
+     * Audit entries newest first, filtered by any combination of table, record, employee, project, changed
+     * field and time range. Pages continue from the {@code (changed_at, id)} of the last entry of the previous
+     * page, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AuditLogResponse> search(String tableName, Long recordId, Long employeeId, Long projectId,
+                                               String fieldName, LocalDateTime from, LocalDateTime to,
+                                               String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        boolean first = cursor == null || cursor.isEmpty();
+        List<AuditLog> rows = auditLogRepository.search(tableName, recordId, employeeId, projectId, fieldName, from, to,
+                first ? null : PageCursor.afterTime(cursor), first ? null : PageCursor.afterTimeId(cursor),
+                PageCursor.fetchLimit(size));
+
+        Map<Long, List<AuditFieldChangeResponse>> changes = changesOf(rows);
+        return CursorPage.of(rows, size, row -> toResponse(row, changes.getOrDefault(row.getId(), List.of())),
+                row -> PageCursor.ofTimeAndId(row.getChangedAt(), row.getId()));
+    }
+
+    /** Entries with their field changes in the API shape; the retention archive writes the same shape. */
+    List<AuditLogResponse> toResponses(List<AuditLog> rows) {
+        Map<Long, List<AuditFieldChangeResponse>> changes = changesOf(rows);
+        List<AuditLogResponse> responses = new ArrayList<>(rows.size());
+        for (AuditLog row : rows) {
+            responses.add(toResponse(row, changes.getOrDefault(row.getId(), List.of())));
+        }
+        return responses;
+    }
+
+    private Map<Long, List<AuditFieldChangeResponse>> changesOf(List<AuditLog> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (AuditLog row : rows) {
+            ids.add(row.getId());
+        }
+        Map<Long, List<AuditFieldChangeResponse>> changes = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (AuditLogChange change : changeRepository.findByAuditLogIdIn(ids)) {
+                changes.computeIfAbsent(change.getAuditLog().getId(), id -> new ArrayList<>())
+                        .add(AuditFieldChangeResponse.builder()
+                                .field(change.getFieldName())
+                                .oldValue(change.getOldValue())
+                                .newValue(change.getNewValue())
+                                .build());
+            }
+        }
+        return changes;
+    }
+
+    private AuditLogResponse toResponse(AuditLog log, List<AuditFieldChangeResponse> changes) {
+        return AuditLogResponse.builder()
+                .id(log.getId())
+                .tableName(log.getTableName())
+                .recordId(log.getRecordId())
+                .action(log.getAction())
+                .employeeId(log.getEmployee() != null ? log.getEmployee().getId() : null)
+                .projectId(log.getProjectId())
+                .changedAt(log.getChangedAt())
+                .changes(changes)
+                .oldValue(log.getOldValue())
+                .newValue(log.getNewValue())
+                .build();
+    }
+}
@@ -0,0 +1,361 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.AuditLog;
+import com.pmis.demo.domain.entity.AuditLogChange;
+import com.pmis.demo.domain.enums.AuditAction;
+import com.pmis.demo.dto.AuditChainRow;
+import com.pmis.demo.dto.AuditLogResponse;
+import com.pmis.demo.dto.AuditRetentionResponse;
+import com.pmis.demo.repository.AuditLogChangeRepository;
+import com.pmis.demo.repository.AuditLogRepository;
+import com.pmis.demo.repository.ProjectSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps audit_log bounded. Two passes, both in short transactions separated by a pause so neither holds locks
+ * for long or starves the audit writer:
+ * <ul>
+ *   <li>Compaction: UPDATE entries of one record on one day, older than {@code compact-after-days}, collapse
+ *   into the last entry of the day carrying the net change per field. Fields that ended where they started
+ *   are dropped; a chain that changed nothing overall is removed entirely. Legacy entries without per-field
+ *   rows are left alone because their net change cannot be computed.</li>
+ *   <li>Archiving: whole calendar months older than {@code archive-after-months} are written to
+ *   {@code audit-log-YYYY-MM.ndjson.gz} in the export directory (same shape as {@code GET /api/audit-logs})
+ *   and only then deleted in chunks of {@code chunk-size} entries.</li>
+ * </ul>
+ * Project snapshots taken before the oldest retained entry are deleted after archiving: with the history after
+ * them gone they can no longer be replayed.
+ */
+@Slf4j
+@Service
+public class AuditRetentionService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogChangeRepository changeRepository;
+    private final AuditLogService auditLogService;
+    private final ProjectSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int compactAfterDays;
+    private final int compactWindowDays;
+    private final int archiveAfterMonths;
+    private final Path exportDir;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AuditRetentionService(AuditLogRepository auditLogRepository,
+                                 AuditLogChangeRepository changeRepository,
+                                 AuditLogService auditLogService,
+                                 ProjectSnapshotRepository snapshotRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${pmis.audit.retention.compact-after-days:30}") int compactAfterDays,
+                                 @Value("${pmis.audit.retention.compact-window-days:7}") int compactWindowDays,
+                                 @Value("${pmis.audit.retention.archive-after-months:12}") int archiveAfterMonths,
+                                 @Value("${pmis.audit.retention.export-dir:audit-archive}") String exportDir,
+                                 @Value("${pmis.audit.retention.chunk-size:1000}") int chunkSize,
+                                 @Value("${pmis.audit.retention.pause-ms:100}") long pauseMillis) {
+        this.auditLogRepository = auditLogRepository;
+        this.changeRepository = changeRepository;
+        this.auditLogService = auditLogService;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.compactAfterDays = compactAfterDays;
+        this.compactWindowDays = compactWindowDays;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.exportDir = Paths.get(exportDir);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    @Scheduled(cron = "${pmis.audit.retention.cron:0 30 3 * * *}")
+    public void runNightly() {
+        try {
+            AuditRetentionResponse report = run();
+            log.info("Audit retention: {} chains compacted ({} entries removed), {} entries archived to {}, "
+                            + "{} project snapshots deleted",
+                    report.getCompactedChains(), report.getEntriesRemovedByCompaction(),
+                    report.getEntriesArchived(), report.getArchiveFiles(), report.getSnapshotsDeleted());
+        } catch (IllegalArgumentException e) {
+            log.info("Audit retention skipped: {}", e.getMessage());
+        }
+    }
+
+    public AuditRetentionResponse run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("Audit retention is already running");
+        }
+        try {
+            int[] compacted = compact(LocalDate.now());
+            List<String> files = new ArrayList<>();
+            int archived = archive(YearMonth.now(), files);
+            int snapshotsDeleted = pruneSnapshots();
+            return AuditRetentionResponse.builder()
+                    .compactedChains(compacted[0])
+                    .entriesRemovedByCompaction(compacted[1])
+                    .archiveFiles(files)
+                    .entriesArchived(archived)
+                    .snapshotsDeleted(snapshotsDeleted)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** Returns {chains compacted, entries removed}. Days are revisited every night, so a missed run catches up. */
+    private int[] compact(LocalDate today) {
+        int[] totals = new int[2];
+        if (compactAfterDays <= 0 || compactWindowDays <= 0) {
+            return totals;
+        }
+        LocalDate cutoff = today.minusDays(compactAfterDays);
+        int sincePause = 0;
+        for (LocalDate day = cutoff.minusDays(compactWindowDays); day.isBefore(cutoff); day = day.plusDays(1)) {
+            LocalDateTime from = day.atStartOfDay();
+            LocalDateTime to = day.plusDays(1).atStartOfDay();
+            List<AuditChainRow> chains = readOnlyTransaction.execute(status ->
+                    auditLogRepository.findChains(AuditAction.UPDATE, from, to));
+            for (AuditChainRow chain : chains) {
+                Integer removed = transaction.execute(status -> compactChain(chain, from, to));
+                if (removed > 0) {
+                    totals[0]++;
+                    totals[1] += removed;
+                }
+                sincePause += chain.getEntries().intValue();
+                if (sincePause >= chunkSize) {
+                    sincePause = 0;
+                    if (!pause()) {
+                        return totals;
+                    }
+                }
+            }
+        }
+        return totals;
+    }
+
+    private int compactChain(AuditChainRow chain, LocalDateTime from, LocalDateTime to) {
+        List<AuditLog> entries = auditLogRepository.findChain(chain.getTableName(), chain.getRecordId(),
+                AuditAction.UPDATE, from, to);
+        if (entries.size() < 2) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (AuditLog entry : entries) {
+            ids.add(entry.getId());
+        }
+        Map<Long, List<AuditLogChange>> changesByEntry = new HashMap<>();
+        for (AuditLogChange change : changeRepository.findByAuditLogIdIn(ids)) {
+            changesByEntry.computeIfAbsent(change.getAuditLog().getId(), id -> new ArrayList<>()).add(change);
+        }
+        if (changesByEntry.size() < entries.size()) {
+            return 0;
+        }
+
+        // field -> {value before the first change, value after the last change}
+        Map<String, String[]> net = new LinkedHashMap<>();
+        for (AuditLog entry : entries) {
+            for (AuditLogChange change : changesByEntry.get(entry.getId())) {
+                String[] values = net.computeIfAbsent(change.getFieldName(),
+                        field -> new String[]{change.getOldValue(), null});
+                values[1] = change.getNewValue();
+            }
+        }
+        net.values().removeIf(values -> Objects.equals(values[0], values[1]));
+
+        AuditLog kept = entries.get(entries.size() - 1);
+        changeRepository.deleteByAuditLogIdIn(ids);
+        if (net.isEmpty()) {
+            auditLogRepository.deleteByIdIn(ids);
+            return entries.size();
+        }
+        auditLogRepository.deleteByIdIn(ids.subList(0, ids.size() - 1));
+
+        List<AuditLogChange> changes = new ArrayList<>(net.size());
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, String[]> field : net.entrySet()) {
+            String[] values = field.getValue();
+            changes.add(AuditLogChange.builder()
+                    .auditLog(kept)
+                    .fieldName(field.getKey())
+                    .oldValue(values[0])
+                    .newValue(values[1])
+                    .build());
+            text.append(field.getKey()).append(": ").append(text(values[0]))
+                    .append(" -> ").append(text(values[1])).append("; ");
+        }
+        changeRepository.saveAll(changes);
+        kept.setOldValue(entries.get(0).getOldValue());
+        kept.setNewValue(text.toString());
+        return entries.size() - 1;
+    }
+
+    private int pruneSnapshots() {
+        if (archiveAfterMonths <= 0) {
+            return 0;
+        }
+        LocalDateTime historyFrom = readOnlyTransaction.execute(status ->
+                auditLogRepository.findFirstByOrderByChangedAtAscIdAsc().map(AuditLog::getChangedAt).orElse(null));
+        if (historyFrom == null) {
+            return 0;
+        }
+        return transaction.execute(status -> snapshotRepository.deleteByTakenAtBefore(historyFrom));
+    }
+
+    private int archive(YearMonth current, List<String> files) {
+        if (archiveAfterMonths <= 0) {
+            return 0;
+        }
+        YearMonth boundary = current.minusMonths(archiveAfterMonths);
+        AuditLog oldest = readOnlyTransaction.execute(status ->
+                auditLogRepository.findFirstByOrderByChangedAtAscIdAsc().orElse(null));
+        if (oldest == null) {
+            return 0;
+        }
+        int archived = 0;
+        for (YearMonth month = YearMonth.from(oldest.getChangedAt()); month.isBefore(boundary);
+             month = month.plusMonths(1)) {
+            int count = archiveMonth(month, files);
+            if (count < 0) {
+                break;
+            }
+            archived += count;
+        }
+        return archived;
+    }
+
+    /** Exports one month, then deletes exactly what was exported. Returns -1 when interrupted. */
+    private int archiveMonth(YearMonth month, List<String> files) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        Path target;
+        Path temp;
+        LocalDateTime lastTime = from;
+        long lastId = 0;
+        int exported = 0;
+        try {
+            Files.createDirectories(exportDir);
+            target = archiveFile(month);
+            temp = exportDir.resolve(target.getFileName() + ".tmp");
+            try (OutputStream out = new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE)) {
+                while (true) {
+                    LocalDateTime afterTime = lastTime;
+                    long afterId = lastId;
+                    List<AuditLog> chunk = readOnlyTransaction.execute(status ->
+                            auditLogRepository.findChunk(from, to, afterTime, afterId, Limit.of(chunkSize)));
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    List<AuditLogResponse> rows = readOnlyTransaction.execute(status ->
+                            auditLogService.toResponses(chunk));
+                    for (AuditLogResponse row : rows) {
+                        out.write(objectMapper.writeValueAsBytes(row));
+                        out.write(NEWLINE);
+                    }
+                    AuditLog last = chunk.get(chunk.size() - 1);
+                    lastTime = last.getChangedAt();
+                    lastId = last.getId();
+                    exported += chunk.size();
+                }
+            }
+            if (exported == 0) {
+                Files.delete(temp);
+                return 0;
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive audit log for " + month, e);
+        }
+        files.add(target.toString());
+
+        // Entries with a later key than the last exported one would be lost, so they stay for the next run
+        LocalDateTime endTime = lastTime;
+        long endId = lastId;
+        int deleted = 0;
+        while (deleted < exported) {
+            List<AuditLog> chunk = readOnlyTransaction.execute(status ->
+                    auditLogRepository.findChunk(from, to, from, 0L, Limit.of(chunkSize)));
+            List<Long> ids = new ArrayList<>(chunk.size());
+            for (AuditLog entry : chunk) {
+                int order = entry.getChangedAt().compareTo(endTime);
+                if (order < 0 || (order == 0 && entry.getId() <= endId)) {
+                    ids.add(entry.getId());
+                }
+            }
+            if (ids.isEmpty()) {
+                break;
+            }
+            transaction.executeWithoutResult(status -> {
+                changeRepository.deleteByAuditLogIdIn(ids);
+                auditLogRepository.deleteByIdIn(ids);
+            });
+            deleted += ids.size();
+            if (!pause()) {
+                return -1;
+            }
+        }
+        return deleted;
+    }
+
+    // Never overwrites an earlier archive of the same month (e.g. rows that arrived after it was written)
+    private Path archiveFile(YearMonth month) {
+        Path file = exportDir.resolve("audit-log-" + month + ".ndjson.gz");
+        for (int n = 1; Files.exists(file); n++) {
+            file = exportDir.resolve("audit-log-" + month + "." + n + ".ndjson.gz");
+        }
+        return file;
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String text(String value) {
+        return value != null ? value : "NULL";
+    }
+}
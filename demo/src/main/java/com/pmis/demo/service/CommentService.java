@@ -3,11 +3,15 @@ package com.pmis.demo.service;
 import com.pmis.demo.domain.entity.Employee;
 import com.pmis.demo.domain.entity.Task;
 import com.pmis.demo.domain.entity.TaskComment;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.TaskCommentResponse;
 import com.pmis.demo.repository.EmployeeRepository;
 import com.pmis.demo.repository.TaskCommentRepository;
 import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.feed.FeedEventType;
+import com.pmis.demo.service.feed.ProjectFeedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,7 @@ public class CommentService {
     private final TaskCommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskComment addComment(Long taskId, Long employeeId, String content) {
@@ -41,13 +46,20 @@ public class CommentService {
                 .commentedAt(LocalDateTime.now())
                 .content(content)
                 .build();
-        return commentRepository.save(comment);
+        TaskComment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new ProjectFeedEvent(FeedEventType.COMMENT_ADDED, task.getProject().getId(),
+                toResponse(saved)));
+        return saved;
     }
 
-    public List<TaskCommentResponse> getComments(Long taskId) {
-        return commentRepository.findByTaskIdOrderByCommentedAtAsc(taskId).stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<TaskCommentResponse> getComments(Long taskId, String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        List<TaskComment> rows = cursor == null || cursor.isEmpty()
+                ? commentRepository.findByTaskIdOrderByCommentedAtAscIdAsc(taskId, PageCursor.fetchLimit(size))
+                : commentRepository.findPageAfter(taskId, PageCursor.afterTime(cursor), PageCursor.afterTimeId(cursor),
+                        PageCursor.fetchLimit(size));
+        return CursorPage.of(rows, size, this::toResponse,
+                comment -> PageCursor.ofTimeAndId(comment.getCommentedAt(), comment.getId()));
     }
 
     private TaskCommentResponse toResponse(TaskComment comment) {
@@ -5,6 +5,7 @@ import com.pmis.demo.dto.DepartmentResponse;
 import com.pmis.demo.repository.DepartmentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,6 +14,7 @@ import java.util.List;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final WorkLogRollupService workLogRollupService;
 
     public Department create(Department department) {
         return departmentRepository.save(department);
@@ -34,7 +36,9 @@ public class DepartmentService {
         return departmentRepository.save(dept);
     }
 
+    @Transactional
     public void delete(Long id) {
+        workLogRollupService.removeDepartment(id);
         departmentRepository.deleteById(id);
     }
 
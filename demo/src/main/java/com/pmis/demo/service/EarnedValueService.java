@@ -0,0 +1,155 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Project;
+import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.domain.enums.TaskStatus;
+import com.pmis.demo.dto.EarnedValueResponse;
+import com.pmis.demo.dto.PortfolioEarnedValueResponse;
+import com.pmis.demo.dto.TaskEarnedValueRow;
+import com.pmis.demo.dto.TaskHoursRow;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.repository.TaskWorkLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Earned value per project, in hours: BAC is the sum of task estimates, PV spreads each estimate
+ * linearly over the task's planned dates, EV follows the 0/50/100 rule on task status and
+ * AC is the logged work up to the as-of date.
+ */
+@Service
+@RequiredArgsConstructor
+public class EarnedValueService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWorkLogRepository workLogRepository;
+
+    @Transactional(readOnly = true)
+    public EarnedValueResponse getProjectEarnedValue(Long projectId, LocalDate asOf) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        Map<Long, Double> hours = toHoursMap(workLogRepository.sumHoursByTaskForProject(projectId, date));
+
+        Rollup rollup = new Rollup();
+        for (TaskEarnedValueRow task : taskRepository.findEarnedValueRowsByProjectId(projectId)) {
+            rollup.add(task, hours.getOrDefault(task.getId(), 0.0), date);
+        }
+        return rollup.toResponse(project.getId(), project.getName(), date);
+    }
+
+    @Transactional(readOnly = true)
+    public PortfolioEarnedValueResponse getPortfolioEarnedValue(LocalDate asOf) {
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        Map<Long, Rollup> rollups = new LinkedHashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (Project project : projectRepository.findByStatus(ProjectStatus.ONGOING)) {
+            rollups.put(project.getId(), new Rollup());
+            names.put(project.getId(), project.getName());
+        }
+        Map<Long, Double> hours = toHoursMap(
+                workLogRepository.sumHoursByTaskForProjectStatus(ProjectStatus.ONGOING, date));
+
+        Rollup total = new Rollup();
+        for (TaskEarnedValueRow task : taskRepository.findEarnedValueRowsByProjectStatus(ProjectStatus.ONGOING)) {
+            Rollup rollup = rollups.get(task.getProjectId());
+            if (rollup == null) {
+                // Project became ONGOING between the two queries
+                continue;
+            }
+            double actual = hours.getOrDefault(task.getId(), 0.0);
+            rollup.add(task, actual, date);
+            total.add(task, actual, date);
+        }
+
+        List<EarnedValueResponse> projects = new ArrayList<>(rollups.size());
+        rollups.forEach((projectId, rollup) -> projects.add(rollup.toResponse(projectId, names.get(projectId), date)));
+        return PortfolioEarnedValueResponse.builder()
+                .asOf(date)
+                .total(total.toResponse(null, null, date))
+                .projects(projects)
+                .build();
+    }
+
+    private Map<Long, Double> toHoursMap(List<TaskHoursRow> rows) {
+        Map<Long, Double> hours = new HashMap<>(rows.size() * 2);
+        for (TaskHoursRow row : rows) {
+            hours.put(row.getTaskId(), row.getHours() != null ? row.getHours().doubleValue() : 0.0);
+        }
+        return hours;
+    }
+
+    private static final class Rollup {
+        private int taskCount;
+        private double budget;
+        private double planned;
+        private double earned;
+        private double actual;
+
+        void add(TaskEarnedValueRow task, double actualHours, LocalDate asOf) {
+            double estimate = task.getEstimatedHours() != null ? task.getEstimatedHours().doubleValue() : 0.0;
+            taskCount++;
+            budget += estimate;
+            planned += estimate * plannedFraction(task.getStartDate(), task.getEndDate(), asOf);
+            earned += estimate * earnedFraction(task.getStatus());
+            actual += actualHours;
+        }
+
+        EarnedValueResponse toResponse(Long projectId, String projectName, LocalDate asOf) {
+            Double cpi = actual > 0 ? earned / actual : null;
+            Double spi = planned > 0 ? earned / planned : null;
+            // Without a CPI yet, assume the remaining work goes to plan
+            double eac = cpi != null && cpi > 0 ? budget / cpi : actual + (budget - earned);
+            return EarnedValueResponse.builder()
+                    .projectId(projectId)
+                    .projectName(projectName)
+                    .asOf(asOf)
+                    .taskCount(taskCount)
+                    .budgetAtCompletion(scale(budget))
+                    .plannedValue(scale(planned))
+                    .earnedValue(scale(earned))
+                    .actualCost(scale(actual))
+                    .costVariance(scale(earned - actual))
+                    .scheduleVariance(scale(earned - planned))
+                    .costPerformanceIndex(cpi != null ? scale(cpi) : null)
+                    .schedulePerformanceIndex(spi != null ? scale(spi) : null)
+                    .estimateAtCompletion(scale(eac))
+                    .build();
+        }
+
+        private static double plannedFraction(LocalDate start, LocalDate end, LocalDate asOf) {
+            if (start == null || end == null || asOf.isBefore(start)) {
+                return 0.0;
+            }
+            if (!asOf.isBefore(end) || end.isBefore(start)) {
+                return 1.0;
+            }
+            // Inclusive days elapsed over inclusive planned days
+            double days = end.toEpochDay() - start.toEpochDay() + 1;
+            return (asOf.toEpochDay() - start.toEpochDay() + 1) / days;
+        }
+
+        private static double earnedFraction(TaskStatus status) {
+            if (status == TaskStatus.DONE) {
+                return 1.0;
+            }
+            return status == TaskStatus.DOING ? 0.5 : 0.0;
+        }
+
+        private static BigDecimal scale(double value) {
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.pmis.demo.service;
 
 import com.pmis.demo.domain.entity.Department;
 import com.pmis.demo.domain.entity.Employee;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.EmployeeResponse;
 import com.pmis.demo.repository.DepartmentRepository;
 import com.pmis.demo.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,6 +18,9 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final TaskAccessIndex accessIndex;
+    private final AssignmentIntervalIndex intervalIndex;
+    private final WorkLogRollupService workLogRollupService;
 
     public Employee create(Long departmentId, Employee employee) {
         Department dept = departmentRepository.findById(departmentId)
@@ -24,20 +29,23 @@ public class EmployeeService {
         return employeeRepository.save(employee);
     }
 
-    public List<EmployeeResponse> getAll() {
-        return employeeRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<EmployeeResponse> getAll(String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                employeeRepository.findByIdGreaterThanOrderByIdAsc(PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, employee -> PageCursor.ofId(employee.getId()));
     }
 
     public EmployeeResponse getById(Long id) {
         return toResponse(findEmployee(id));
     }
 
-    public List<EmployeeResponse> getByDepartment(Long departmentId) {
-        return employeeRepository.findByDepartmentId(departmentId).stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<EmployeeResponse> getByDepartment(Long departmentId, String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                employeeRepository.findByDepartmentIdAndIdGreaterThanOrderByIdAsc(
+                        departmentId, PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, employee -> PageCursor.ofId(employee.getId()));
     }
 
     public Employee update(Long id, Long departmentId, Employee update) {
@@ -52,8 +60,12 @@ public class EmployeeService {
         return employeeRepository.save(emp);
     }
 
+    @Transactional
     public void delete(Long id) {
+        workLogRollupService.removeEmployee(id);
         employeeRepository.deleteById(id);
+        accessIndex.invalidate(id);
+        intervalIndex.invalidate(List.of(id));
     }
 
     private Employee findEmployee(Long id) {
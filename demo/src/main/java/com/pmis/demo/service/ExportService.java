@@ -0,0 +1,170 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.dto.ExportFormat;
+import com.pmis.demo.repository.AuditLogRepository;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.repository.TaskWorkLogRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams large tables out as NDJSON or CSV. Rows come from a forward-only query read with a JDBC fetch size
+ * as DTO projections, so nothing accumulates in the persistence context and memory stays flat regardless of
+ * the row count. The query runs inside the response body callback, in its own read-only transaction.
+ */
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 1000;
+    private static final byte[] NEWLINE = {'\n'};
+
+    private static final String[] TASK_COLUMNS =
+            {"id", "projectId", "name", "startDate", "endDate", "status", "priority", "estimatedHours"};
+    private static final String[] WORK_LOG_COLUMNS = {"id", "taskId", "employeeId", "workDate", "hours", "note"};
+    private static final String[] AUDIT_LOG_COLUMNS =
+            {"id", "tableName", "recordId", "action", "employeeId", "oldValue", "newValue", "changedAt", "ipAddress"};
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWorkLogRepository workLogRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(ProjectRepository projectRepository,
+                         TaskRepository taskRepository,
+                         TaskWorkLogRepository workLogRepository,
+                         AuditLogRepository auditLogRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.workLogRepository = workLogRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportTasks(Long projectId, ExportFormat format) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        return export(() -> taskRepository.streamForExport(projectId), format, TASK_COLUMNS,
+                row -> new Object[]{
+                        row.getId(), row.getProjectId(), row.getName(), row.getStartDate(), row.getEndDate(),
+                        row.getStatus(), row.getPriority(), row.getEstimatedHours()
+                });
+    }
+
+    public StreamingResponseBody exportWorkLogs(LocalDate from, LocalDate to, ExportFormat format) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("A date range with from <= to is required");
+        }
+        return export(() -> workLogRepository.streamForExport(from, to), format, WORK_LOG_COLUMNS,
+                row -> new Object[]{
+                        row.getId(), row.getTaskId(), row.getEmployeeId(), row.getWorkDate(), row.getHours(),
+                        row.getNote()
+                });
+    }
+
+    public StreamingResponseBody exportAuditLogs(LocalDateTime from, LocalDateTime to, ExportFormat format) {
+        LocalDateTime start = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime end = to != null ? to : LocalDateTime.of(9999, 12, 31, 0, 0);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return export(() -> auditLogRepository.streamForExport(start, end), format, AUDIT_LOG_COLUMNS,
+                row -> new Object[]{
+                        row.getId(), row.getTableName(), row.getRecordId(), row.getAction(), row.getEmployeeId(),
+                        row.getOldValue(), row.getNewValue(), row.getChangedAt(), row.getIpAddress()
+                });
+    }
+
+    private <T> StreamingResponseBody export(Supplier<Stream<T>> query, ExportFormat format,
+                                             String[] header, Function<T, Object[]> columns) {
+        return out -> {
+            OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(buffered, header);
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<T> rows = query.get()) {
+                        Iterator<T> iterator = rows.iterator();
+                        int written = 0;
+                        while (iterator.hasNext()) {
+                            T row = iterator.next();
+                            if (format == ExportFormat.CSV) {
+                                writeCsvLine(buffered, columns.apply(row));
+                            } else {
+                                buffered.write(objectMapper.writeValueAsBytes(row));
+                                buffered.write(NEWLINE);
+                            }
+                            // Push rows to the client as we go instead of holding the response until the end
+                            if (++written % FLUSH_EVERY == 0) {
+                                buffered.flush();
+                            }
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            buffered.flush();
+        };
+    }
+
+    private void writeCsvLine(OutputStream out, Object[] values) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendCsv(line, values[i]);
+        }
+        line.append("\r\n");
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendCsv(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,140 @@
+package com.pmis.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for the in-memory indexes. Every change bumps a generation counter, and a load that
+ * overlapped a change is returned but not kept, since it may have read the old state. Changes made inside a
+ * transaction are repeated as a drop once it completes, whatever the outcome, so a load racing the commit
+ * (or a patch that was rolled back) cannot stay cached.
+ */
+final class GenerationCache<K, V> {
+
+    private final Map<K, V> entries;
+    private final Object lock = new Object();
+    private long generation;
+
+    private GenerationCache(Map<K, V> entries) {
+        this.entries = entries;
+    }
+
+    static <K, V> GenerationCache<K, V> unbounded() {
+        return new GenerationCache<>(new ConcurrentHashMap<>());
+    }
+
+    /** Keeps at most {@code maxEntries}, evicting the least recently used. */
+    static <K, V> GenerationCache<K, V> lru(int maxEntries) {
+        return new GenerationCache<>(Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        }));
+    }
+
+    /** The cached value, or the loader's; a {@code null} from the loader is returned but never cached. */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen;
+        synchronized (lock) {
+            seen = generation;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (lock) {
+            if (generation == seen) {
+                V raced = entries.putIfAbsent(key, loaded);
+                return raced != null ? raced : loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /** Patches the cached entries of the keys in place; within a transaction they are dropped once it ends. */
+    void update(Collection<? extends K> keys, BiFunction<? super K, ? super V, ? extends V> patch) {
+        synchronized (lock) {
+            generation++;
+            for (K key : keys) {
+                if (key != null) {
+                    entries.computeIfPresent(key, patch);
+                }
+            }
+        }
+        afterCompletion(() -> remove(keys));
+    }
+
+    /**
+     * Patches the cached entries of the keys with a change that has already committed, so unlike {@link #update}
+     * nothing is dropped later. A patch returning {@code null} drops the entry.
+     */
+    void patchCommitted(Collection<? extends K> keys, BiFunction<? super K, ? super V, ? extends V> patch) {
+        synchronized (lock) {
+            generation++;
+            for (K key : keys) {
+                if (key != null) {
+                    entries.computeIfPresent(key, patch);
+                }
+            }
+        }
+    }
+
+    /** The cached value, or {@code null}; never loads. */
+    V getIfPresent(K key) {
+        return entries.get(key);
+    }
+
+    /** Drops the keys now and, within a transaction, again once it ends. */
+    void invalidate(Collection<? extends K> keys) {
+        remove(keys);
+        afterCompletion(() -> remove(keys));
+    }
+
+    void invalidateAll() {
+        clear();
+        afterCompletion(this::clear);
+    }
+
+    /** Runs the action when the current transaction completes, whatever the outcome; does nothing outside one. */
+    static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void remove(Collection<? extends K> keys) {
+        synchronized (lock) {
+            generation++;
+            for (K key : keys) {
+                if (key != null) {
+                    entries.remove(key);
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        synchronized (lock) {
+            generation++;
+            entries.clear();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.entity.ProjectMilestone;
 import com.pmis.demo.dto.ProjectMilestoneResponse;
 import com.pmis.demo.repository.ProjectMilestoneRepository;
-import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.service.feed.FeedEventType;
+import com.pmis.demo.service.feed.ProjectFeedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -15,11 +17,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MilestoneService {
 
+    private static final String MANAGER_ONLY = "Only the project manager can modify milestones for this project";
+
     private final ProjectMilestoneRepository milestoneRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectAuthorizationService authorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectMilestone createMilestone(Long projectId, Long employeeId, String name, LocalDate dueDate) {
-        Project project = assertManagerAndGet(projectId, employeeId);
+        Project project = authorizationService.assertManagerAndGetReference(projectId, employeeId, MANAGER_ONLY);
 
         ProjectMilestone milestone = ProjectMilestone.builder()
                 .project(project)
@@ -38,15 +43,21 @@ public class MilestoneService {
     }
 
     public ProjectMilestone completeMilestone(Long projectId, Long milestoneId, Long employeeId) {
-        assertManagerAndGet(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
         ProjectMilestone m = milestoneRepository.findById(milestoneId)
                 .orElseThrow(() -> new IllegalArgumentException("Milestone not found"));
         Long milestoneProjectId = m.getProject() != null ? m.getProject().getId() : null;
         if (milestoneProjectId == null || !milestoneProjectId.equals(projectId)) {
             throw new IllegalArgumentException("Milestone does not belong to the specified project");
         }
+        boolean wasCompleted = Boolean.TRUE.equals(m.getIsCompleted());
         m.setIsCompleted(true);
-        return milestoneRepository.save(m);
+        ProjectMilestone saved = milestoneRepository.save(m);
+        if (!wasCompleted) {
+            eventPublisher.publishEvent(new ProjectFeedEvent(FeedEventType.MILESTONE_COMPLETED, projectId,
+                    toResponse(saved)));
+        }
+        return saved;
     }
 
     private ProjectMilestoneResponse toResponse(ProjectMilestone milestone) {
@@ -59,17 +70,4 @@ public class MilestoneService {
                 .isCompleted(milestone.getIsCompleted())
                 .build();
     }
-
-    private Project assertManagerAndGet(Long projectId, Long employeeId) {
-        if (employeeId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
-        }
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
-        Long managerId = project.getManager() != null ? project.getManager().getId() : null;
-        if (managerId == null || !managerId.equals(employeeId)) {
-            throw new IllegalArgumentException("Only the project manager can modify milestones for this project");
-        }
-        return project;
-    }
 }
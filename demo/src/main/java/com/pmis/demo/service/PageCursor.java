@@ -0,0 +1,91 @@
+package com.pmis.demo.service;
+
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors: the sort key of the last row of a page, base64url encoded.
+ * Queries fetch one row more than the page size to know whether a next page exists.
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private PageCursor() {
+    }
+
+    public static int limit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (requested < 1 || requested > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return requested;
+    }
+
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    public static String ofId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    /** Id after which the next page starts; 0 for the first page. */
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static String ofTimeAndId(LocalDateTime time, Long id) {
+        return encode(time + "|" + id);
+    }
+
+    public static LocalDateTime afterTime(String cursor) {
+        try {
+            return LocalDateTime.parse(splitTimeAndId(cursor)[0]);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static long afterTimeId(String cursor) {
+        try {
+            return Long.parseLong(splitTimeAndId(cursor)[1]);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String[] splitTimeAndId(String cursor) {
+        String[] parts = decode(cursor).split("\\|");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+
+    private static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Project;
+import com.pmis.demo.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Manager checks for project writes. The projectId -> managerId mapping is kept in a bounded LRU cache,
+ * so an authorized write costs no query at all; entries are evicted when a project's manager changes
+ * or the project is deleted.
+ */
+@Service
+public class ProjectAuthorizationService {
+
+    private final ProjectRepository projectRepository;
+    private final GenerationCache<Long, Long> managers;
+
+    public ProjectAuthorizationService(ProjectRepository projectRepository,
+                                       @Value("${pmis.authorization.cache-size:10000}") int maxProjects) {
+        this.projectRepository = projectRepository;
+        this.managers = GenerationCache.lru(maxProjects);
+    }
+
+    public void assertManager(Long projectId, Long employeeId, String message) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID is required");
+        }
+        Long managerId = getManagerId(projectId);
+        if (managerId == null || !managerId.equals(employeeId)) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /** Checks the manager and returns an uninitialized reference, enough to set as a foreign key. */
+    public Project assertManagerAndGetReference(Long projectId, Long employeeId, String message) {
+        assertManager(projectId, employeeId, message);
+        return projectRepository.getReferenceById(projectId);
+    }
+
+    /** Drops the cached manager now and, inside a transaction, again once it completes. */
+    public void evict(Long projectId) {
+        managers.invalidate(List.of(projectId));
+    }
+
+    // Projects without a manager load as null and are not cached; nobody can modify them anyway
+    private Long getManagerId(Long projectId) {
+        return managers.get(projectId, id -> projectRepository.findManagerRowById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"))
+                .getManagerId());
+    }
+}
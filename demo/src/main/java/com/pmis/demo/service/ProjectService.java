@@ -5,6 +5,7 @@ import com.pmis.demo.domain.entity.Employee;
 import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.entity.ProjectDepartment;
 import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.ProjectResponse;
 import com.pmis.demo.repository.DepartmentRepository;
 import com.pmis.demo.repository.EmployeeRepository;
@@ -12,17 +13,25 @@ import com.pmis.demo.repository.ProjectDepartmentRepository;
 import com.pmis.demo.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Arrays;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final String MANAGER_ONLY = "Only the project manager can modify this project";
+
     private final ProjectRepository projectRepository;
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final ProjectDepartmentRepository projectDepartmentRepository;
+    private final ScheduleService scheduleService;
+    private final WorkLogRollupService workLogRollupService;
+    private final ProjectAuthorizationService authorizationService;
+    private final TaskAccessIndex accessIndex;
+    private final AssignmentIntervalIndex intervalIndex;
 
     public Project create(Long managerId, Project project) {
         Employee manager = employeeRepository.findById(managerId)
@@ -34,10 +43,11 @@ public class ProjectService {
         return projectRepository.save(project);
     }
 
-    public List<ProjectResponse> getAll() {
-        return projectRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<ProjectResponse> getAll(String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                projectRepository.findByIdGreaterThanOrderByIdAsc(PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, project -> PageCursor.ofId(project.getId()));
     }
 
     public ProjectResponse getById(Long id) {
@@ -45,8 +55,10 @@ public class ProjectService {
     }
 
     public Project update(Long id, Long employeeId, Long managerId, Project update) {
-        Project project = assertManagerAndGet(id, employeeId);
+        authorizationService.assertManager(id, employeeId, MANAGER_ONLY);
+        Project project = findProject(id);
 
+        Long previousManagerId = project.getManager() != null ? project.getManager().getId() : null;
         if (managerId != null) {
             Employee manager = employeeRepository.findById(managerId)
                     .orElseThrow(() -> new IllegalArgumentException("Manager not found"));
@@ -58,22 +70,34 @@ public class ProjectService {
         project.setEndDate(update.getEndDate());
         project.setStatus(update.getStatus());
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        if (managerId != null && !managerId.equals(previousManagerId)) {
+            authorizationService.evict(id);
+            accessIndex.invalidate(Arrays.asList(previousManagerId, managerId));
+        }
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id, Long employeeId) {
-        assertManagerAndGet(id, employeeId);
+        authorizationService.assertManager(id, employeeId, MANAGER_ONLY);
+        workLogRollupService.removeProject(id);
         projectRepository.deleteById(id);
+        scheduleService.evict(id);
+        authorizationService.evict(id);
+        accessIndex.invalidateAll();
+        intervalIndex.invalidateAll();
     }
 
     public Project updateStatus(Long id, Long employeeId, ProjectStatus status) {
-        Project project = assertManagerAndGet(id, employeeId);
+        authorizationService.assertManager(id, employeeId, MANAGER_ONLY);
+        Project project = findProject(id);
         project.setStatus(status);
         return projectRepository.save(project);
     }
 
     public void addDepartment(Long projectId, Long departmentId, Long employeeId) {
-        Project project = assertManagerAndGet(projectId, employeeId);
+        Project project = authorizationService.assertManagerAndGetReference(projectId, employeeId, MANAGER_ONLY);
         Department dept = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Department not found"));
         ProjectDepartment pd = ProjectDepartment.builder()
@@ -88,18 +112,6 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found"));
     }
 
-    private Project assertManagerAndGet(Long projectId, Long employeeId) {
-        if (employeeId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
-        }
-        Project project = findProject(projectId);
-        Long managerId = project.getManager() != null ? project.getManager().getId() : null;
-        if (managerId == null || !managerId.equals(employeeId)) {
-            throw new IllegalArgumentException("Only the project manager can modify this project");
-        }
-        return project;
-    }
-
     private ProjectResponse toResponse(Project project) {
         Long managerId = project.getManager() != null ? project.getManager().getId() : null;
         return ProjectResponse.builder()
@@ -0,0 +1,292 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.AuditLog;
+import com.pmis.demo.domain.entity.ProjectSnapshot;
+import com.pmis.demo.domain.enums.AuditAction;
+import com.pmis.demo.domain.enums.PriorityLevel;
+import com.pmis.demo.domain.enums.TaskStatus;
+import com.pmis.demo.dto.AuditReplayRow;
+import com.pmis.demo.dto.ProjectAsOfResponse;
+import com.pmis.demo.dto.TaskAsOfResponse;
+import com.pmis.demo.dto.TaskExportRow;
+import com.pmis.demo.repository.AuditLogChangeRepository;
+import com.pmis.demo.repository.AuditLogRepository;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.ProjectSnapshotRepository;
+import com.pmis.demo.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reconstructs a project's tasks (name, status, priority, dates) as they were at a point in time. A nightly
+ * run snapshots, compressed into project_snapshot, every project that has no snapshot yet or whose tasks
+ * changed after its own latest one. A query starts from the latest snapshot at or before the requested time
+ * and replays the per-field task changes of audit_log after it. Times before a project's first snapshot are
+ * reached by undoing changes from that snapshot instead, or from the current state when the project has not
+ * been snapshotted yet; queries never write. Times before the oldest retained audit entry are rejected since
+ * the archived history can no longer be replayed, and snapshots older than it are pruned by audit retention.
+ * Only entries with per-field rows can be replayed, and UPDATE entries merged by audit compaction replay as
+ * one change per day.
+ */
+@Slf4j
+@Service
+public class ProjectSnapshotService {
+
+    private static final String TASK = "Task";
+    // Audit column names of the tracked task fields, in snapshot column order
+    private static final String[] COLUMNS = {"name", "status", "priority", "start_date", "end_date"};
+    private static final Map<String, Integer> COLUMN_INDEX = new HashMap<>();
+    // Audit entries get their time after commit, so one committed just before a snapshot can carry a slightly
+    // later time; replay overlaps the snapshot by this much. Applying a change twice yields the same state.
+    private static final Duration SKEW = Duration.ofMinutes(1);
+
+    static {
+        for (int k = 0; k < COLUMNS.length; k++) {
+            COLUMN_INDEX.put(COLUMNS[k], k);
+        }
+    }
+
+    private final ProjectSnapshotRepository snapshotRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogChangeRepository changeRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProjectSnapshotService(ProjectSnapshotRepository snapshotRepository,
+                                  ProjectRepository projectRepository,
+                                  TaskRepository taskRepository,
+                                  AuditLogRepository auditLogRepository,
+                                  AuditLogChangeRepository changeRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.snapshotRepository = snapshotRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.changeRepository = changeRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Each project is compared against its own latest snapshot, so a project that failed or was skipped in
+    // one run is picked up by the next
+    @Scheduled(cron = "${pmis.snapshot.cron:0 0 4 * * *}")
+    public void snapshotChangedProjects() {
+        List<Long> projectIds = readOnlyTransaction.execute(status ->
+                snapshotRepository.findProjectIdsToSnapshot(TASK));
+        int taken = 0;
+        for (Long projectId : projectIds) {
+            try {
+                takeSnapshot(projectId);
+                taken++;
+            } catch (RuntimeException e) {
+                log.warn("Snapshot of project {} failed", projectId, e);
+            }
+        }
+        log.info("Took {} of {} project snapshots", taken, projectIds.size());
+    }
+
+    public ProjectSnapshot takeSnapshot(Long projectId) {
+        LocalDateTime takenAt = LocalDateTime.now();
+        Map<Long, String[]> tasks = readTasks(projectId);
+        ProjectSnapshot snapshot = ProjectSnapshot.builder()
+                .projectId(projectId)
+                .takenAt(takenAt)
+                .taskCount(tasks.size())
+                .payload(encode(tasks))
+                .build();
+        return transaction.execute(status -> snapshotRepository.save(snapshot));
+    }
+
+    public ProjectAsOfResponse getProjectAsOf(Long projectId, LocalDateTime asOf) {
+        if (asOf == null) {
+            throw new IllegalArgumentException("timestamp is required");
+        }
+        // A deleted project keeps its snapshots and audit rows, so its past can still be shown
+        boolean known = readOnlyTransaction.execute(status -> projectRepository.existsById(projectId)
+                || snapshotRepository.existsByProjectId(projectId)
+                || auditLogRepository.existsByProjectIdAndTableName(projectId, TASK));
+        if (!known) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        LocalDateTime historyFrom = readOnlyTransaction.execute(status ->
+                auditLogRepository.findFirstByOrderByChangedAtAscIdAsc().map(AuditLog::getChangedAt).orElse(null));
+        if (historyFrom != null && asOf.isBefore(historyFrom)) {
+            throw new IllegalArgumentException("Task history before " + historyFrom + " is no longer retained");
+        }
+        // A snapshot older than the retained history cannot be replayed forward; undo from a newer one instead
+        ProjectSnapshot snapshot = (historyFrom == null
+                ? snapshotRepository.findFirstByProjectIdAndTakenAtLessThanEqualOrderByTakenAtDesc(projectId, asOf)
+                : snapshotRepository.findFirstByProjectIdAndTakenAtBetweenOrderByTakenAtDesc(projectId,
+                        historyFrom, asOf))
+                .or(() -> snapshotRepository.findFirstByProjectIdAndTakenAtAfterOrderByTakenAtAsc(projectId, asOf))
+                .orElse(null);
+
+        Map<Long, String[]> tasks;
+        LocalDateTime takenAt;
+        if (snapshot != null) {
+            tasks = decode(snapshot.getPayload());
+            takenAt = snapshot.getTakenAt();
+        } else {
+            // Not snapshotted yet; the nightly run writes the first one
+            takenAt = LocalDateTime.now();
+            tasks = readTasks(projectId);
+        }
+        int replayed;
+        if (!takenAt.isAfter(asOf)) {
+            replayed = readOnlyTransaction.execute(status -> {
+                try (Stream<AuditReplayRow> rows = changeRepository.streamForReplay(TASK, projectId,
+                        takenAt.minus(SKEW), asOf)) {
+                    return apply(tasks, rows.iterator(), false);
+                }
+            });
+        } else {
+            replayed = readOnlyTransaction.execute(status -> {
+                try (Stream<AuditReplayRow> rows = changeRepository.streamForUndo(TASK, projectId,
+                        asOf, takenAt.plus(SKEW))) {
+                    return apply(tasks, rows.iterator(), true);
+                }
+            });
+        }
+
+        List<Long> ids = new ArrayList<>(tasks.keySet());
+        ids.sort(null);
+        List<TaskAsOfResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            String[] values = tasks.get(id);
+            responses.add(TaskAsOfResponse.builder()
+                    .taskId(id)
+                    .name(values[0])
+                    .status(values[1] != null ? TaskStatus.valueOf(values[1]) : null)
+                    .priority(values[2] != null ? PriorityLevel.valueOf(values[2]) : null)
+                    .startDate(values[3] != null ? LocalDate.parse(values[3]) : null)
+                    .endDate(values[4] != null ? LocalDate.parse(values[4]) : null)
+                    .build());
+        }
+        return ProjectAsOfResponse.builder()
+                .projectId(projectId)
+                .asOf(asOf)
+                .snapshotAt(takenAt)
+                .replayedChanges(replayed)
+                .historyFrom(historyFrom)
+                .tasks(responses)
+                .build();
+    }
+
+    private Map<Long, String[]> readTasks(Long projectId) {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, String[]> rows = new LinkedHashMap<>();
+            try (Stream<TaskExportRow> stream = taskRepository.streamForExport(projectId)) {
+                stream.forEach(row -> rows.put(row.getId(), new String[]{
+                        row.getName(), text(row.getStatus()), text(row.getPriority()),
+                        text(row.getStartDate()), text(row.getEndDate())
+                }));
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Applies field changes in stream order. Forward, INSERT and UPDATE set the new value and DELETE removes the
+     * task; undoing, INSERT removes the task and UPDATE and DELETE restore the old value.
+     */
+    private static int apply(Map<Long, String[]> tasks, Iterator<AuditReplayRow> rows, boolean undo) {
+        int applied = 0;
+        while (rows.hasNext()) {
+            AuditReplayRow row = rows.next();
+            Integer column = COLUMN_INDEX.get(row.getFieldName());
+            if (column == null) {
+                continue;
+            }
+            AuditAction action = row.getAction();
+            if (action == (undo ? AuditAction.INSERT : AuditAction.DELETE)) {
+                tasks.remove(row.getRecordId());
+            } else {
+                tasks.computeIfAbsent(row.getRecordId(), id -> new String[COLUMNS.length])[column] =
+                        undo ? row.getOldValue() : row.getNewValue();
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    private byte[] encode(Map<Long, String[]> tasks) {
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (Map.Entry<Long, String[]> task : tasks.entrySet()) {
+            Object[] row = new Object[COLUMNS.length + 1];
+            row[0] = task.getKey();
+            System.arraycopy(task.getValue(), 0, row, 1, COLUMNS.length);
+            rows.add(row);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("columns", COLUMNS);
+        payload.put("tasks", rows);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(objectMapper.writeValueAsBytes(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Columns are matched by name so snapshots stay readable if tracked fields are added later
+    private Map<Long, String[]> decode(byte[] payload) {
+        JsonNode root;
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            root = objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        JsonNode columnNodes = root.get("columns");
+        int[] target = new int[columnNodes.size()];
+        for (int k = 0; k < target.length; k++) {
+            target[k] = COLUMN_INDEX.getOrDefault(columnNodes.get(k).asString(), -1);
+        }
+        Map<Long, String[]> tasks = new HashMap<>();
+        for (JsonNode row : root.get("tasks")) {
+            String[] values = new String[COLUMNS.length];
+            for (int k = 0; k < target.length; k++) {
+                JsonNode value = row.get(k + 1);
+                if (target[k] >= 0 && value != null && !value.isNull()) {
+                    values[target[k]] = value.asString();
+                }
+            }
+            tasks.put(row.get(0).asLong(), values);
+        }
+        return tasks;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
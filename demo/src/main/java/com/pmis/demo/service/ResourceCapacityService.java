@@ -0,0 +1,265 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Resource;
+import com.pmis.demo.dto.ResourceAllocationRow;
+import com.pmis.demo.dto.ResourceAvailabilityResponse;
+import com.pmis.demo.dto.ResourceOverallocationResponse;
+import com.pmis.demo.repository.ResourceAllocationRepository;
+import com.pmis.demo.repository.ResourceRepository;
+import com.pmis.demo.service.resource.ResourceTimeline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Time-phased view of resource allocations: an allocation occupies its task's planned dates instead of
+ * counting against the resource forever. Capacity is the resource's {@code quantity}. Allocations are
+ * checked against it when made, but later changes to task dates or to the quantity can still overallocate
+ * a resource, which {@link #getOverallocations} reports. Timelines are cached per resource and evicted by
+ * the services that change allocations, task dates or resources.
+ * <p>
+ * Allocation checks run against the cached timeline plus the {@link Reservation}s of allocations still being
+ * written, under a short striped in-process lock per resource, so concurrent allocations of one resource
+ * neither take its row lock nor reload its allocations.
+ */
+@Service
+public class ResourceCapacityService {
+
+    private final ResourceRepository resourceRepository;
+    private final ResourceAllocationRepository allocationRepository;
+    private final GenerationCache<Long, Ledger> timelines;
+    // Reservations whose transaction has not settled yet; each list is only touched under its resource's lock
+    private final Map<Long, List<Reservation>> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock[] resourceLocks = new ReentrantLock[64];
+    private final AtomicLong loads = new AtomicLong();
+
+    public ResourceCapacityService(ResourceRepository resourceRepository,
+                                   ResourceAllocationRepository allocationRepository,
+                                   @Value("${pmis.capacity.cache-size:1024}") int maxResources) {
+        this.resourceRepository = resourceRepository;
+        this.allocationRepository = allocationRepository;
+        this.timelines = GenerationCache.lru(maxResources);
+        for (int i = 0; i < resourceLocks.length; i++) {
+            resourceLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public ResourceAvailabilityResponse getAvailability(Long resourceId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("A date range with from <= to is required");
+        }
+        ResourceTimeline timeline = getTimeline(resourceId);
+        int peak = timeline.peakUsage((int) from.toEpochDay(), (int) to.toEpochDay());
+        return ResourceAvailabilityResponse.builder()
+                .resourceId(resourceId)
+                .from(from)
+                .to(to)
+                .capacity(timeline.capacity())
+                .peakUsage(peak)
+                .available(timeline.capacity() - peak)
+                .build();
+    }
+
+    public List<ResourceOverallocationResponse> getOverallocations(Long resourceId) {
+        ResourceTimeline timeline = getTimeline(resourceId);
+        List<ResourceOverallocationResponse> result = new ArrayList<>();
+        for (int[] run : timeline.overallocations()) {
+            result.add(ResourceOverallocationResponse.builder()
+                    .resourceId(resourceId)
+                    .from(run[0] == Integer.MIN_VALUE ? null : LocalDate.ofEpochDay(run[0]))
+                    .to(run[1] == Integer.MAX_VALUE ? null : LocalDate.ofEpochDay(run[1]))
+                    .capacity(timeline.capacity())
+                    .peakUsage(run[2])
+                    .build());
+        }
+        return result;
+    }
+
+    public ResourceTimeline getTimeline(Long resourceId) {
+        return timelines.get(resourceId, this::load).timeline;
+    }
+
+    public void evict(Collection<Long> resourceIds) {
+        timelines.invalidate(resourceIds);
+    }
+
+    /**
+     * Holds the reservations if every growing one fits within its resource's quantity on each day of its range,
+     * counting committed allocations and every reservation still in flight, including earlier ones of the same
+     * call; otherwise holds none and throws. Call outside a transaction, so a timeline loaded here sees every
+     * committed allocation, and before writing; then pass the same reservations to {@link #settle}.
+     */
+    void reserve(List<Reservation> reservations) {
+        List<Reservation> held = new ArrayList<>();
+        try {
+            for (Reservation reservation : reservations) {
+                hold(reservation);
+                held.add(reservation);
+            }
+        } catch (RuntimeException ex) {
+            settle(held, false);
+            throw ex;
+        }
+    }
+
+    /**
+     * Releases the reservations once their write has committed or failed. Committed ones are folded into the
+     * cached timeline they were checked against; a timeline loaded meanwhile may already contain them, so it is
+     * dropped instead.
+     */
+    void settle(List<Reservation> reservations, boolean committed) {
+        for (Reservation reservation : reservations) {
+            ReentrantLock resourceLock = lockOf(reservation.resourceId);
+            resourceLock.lock();
+            try {
+                List<Reservation> held = pending.get(reservation.resourceId);
+                if (held != null) {
+                    held.remove(reservation);
+                    if (held.isEmpty()) {
+                        pending.remove(reservation.resourceId);
+                    }
+                }
+                if (committed) {
+                    timelines.patchCommitted(List.of(reservation.resourceId), (id, ledger) ->
+                            ledger.loadId == reservation.loadId
+                                    ? new Ledger(ledger.timeline.with(reservation.start, reservation.end,
+                                            reservation.amount), ledger.loadId)
+                                    : null);
+                }
+            } finally {
+                resourceLock.unlock();
+            }
+        }
+    }
+
+    /** Call after the task's dates change, or before the task is deleted. */
+    public void evictForTask(Long taskId) {
+        evict(allocationRepository.findResourceIdsByTaskId(taskId));
+    }
+
+    private void hold(Reservation reservation) {
+        ReentrantLock resourceLock = lockOf(reservation.resourceId);
+        resourceLock.lock();
+        try {
+            Ledger ledger = reservation.amount > 0
+                    ? timelines.get(reservation.resourceId, this::load)
+                    : timelines.getIfPresent(reservation.resourceId);
+            reservation.loadId = ledger != null ? ledger.loadId : -1;
+            List<Reservation> others = pending.getOrDefault(reservation.resourceId, List.of());
+            // Shrinking needs no room; it only frees capacity once it has committed
+            if (reservation.amount > 0
+                    && ledger.timeline.capacity() - peakUsage(ledger.timeline, others, reservation.start,
+                    reservation.end) < reservation.amount) {
+                throw new IllegalArgumentException("Insufficient resource quantity for resource "
+                        + reservation.resourceId + (reservation.start != Integer.MIN_VALUE
+                        ? " between " + LocalDate.ofEpochDay(reservation.start) + " and "
+                        + LocalDate.ofEpochDay(reservation.end) : ""));
+            }
+            pending.computeIfAbsent(reservation.resourceId, id -> new ArrayList<>()).add(reservation);
+        } finally {
+            resourceLock.unlock();
+        }
+    }
+
+    // Peak of committed usage plus the in-flight growth, which is constant between the reservations' own bounds
+    private static int peakUsage(ResourceTimeline timeline, List<Reservation> others, int from, int to) {
+        TreeSet<Integer> cuts = new TreeSet<>();
+        cuts.add(from);
+        for (Reservation other : others) {
+            if (other.start != Integer.MIN_VALUE) {
+                if (other.start > from && other.start <= to) {
+                    cuts.add(other.start);
+                }
+                if (other.end >= from && other.end < to) {
+                    cuts.add(other.end + 1);
+                }
+            }
+        }
+        int peak = Integer.MIN_VALUE;
+        for (int lo : cuts) {
+            Integer next = cuts.higher(lo);
+            int hi = next != null ? next - 1 : to;
+            int extra = 0;
+            for (Reservation other : others) {
+                if (other.amount > 0 && (other.start == Integer.MIN_VALUE || (other.start <= lo && other.end >= lo))) {
+                    extra += other.amount;
+                }
+            }
+            peak = Math.max(peak, timeline.peakUsage(lo, hi) + extra);
+        }
+        return peak;
+    }
+
+    private ReentrantLock lockOf(Long resourceId) {
+        return resourceLocks[Math.floorMod(resourceId.hashCode(), resourceLocks.length)];
+    }
+
+    private Ledger load(Long resourceId) {
+        long loadId = loads.incrementAndGet();
+        Resource resource = resourceRepository.findById(resourceId)
+                .orElseThrow(() -> new IllegalArgumentException("Resource not found: " + resourceId));
+        return new Ledger(build(resource, allocationRepository.findRowsByResourceId(resourceId)), loadId);
+    }
+
+    private static ResourceTimeline build(Resource resource, List<ResourceAllocationRow> rows) {
+        int n = rows.size();
+        int[] start = new int[n];
+        int[] end = new int[n];
+        int[] amount = new int[n];
+        for (int i = 0; i < n; i++) {
+            ResourceAllocationRow row = rows.get(i);
+            amount[i] = row.getAmountUsed();
+            if (isDated(row.getStartDate(), row.getEndDate())) {
+                start[i] = (int) row.getStartDate().toEpochDay();
+                end[i] = (int) row.getEndDate().toEpochDay();
+            } else {
+                start[i] = Integer.MIN_VALUE;
+            }
+        }
+        return ResourceTimeline.build(resource.getQuantity(), start, end, amount);
+    }
+
+    // Without planned dates the allocation is held on every day
+    private static boolean isDated(LocalDate startDate, LocalDate endDate) {
+        return startDate != null && endDate != null && !endDate.isBefore(startDate);
+    }
+
+    // A committed timeline and the load it came from, so a reservation can tell whether the load predates it
+    private static final class Ledger {
+
+        private final ResourceTimeline timeline;
+        private final long loadId;
+
+        private Ledger(ResourceTimeline timeline, long loadId) {
+            this.timeline = timeline;
+            this.loadId = loadId;
+        }
+    }
+
+    /** A change of one allocation's amount on its task's planned dates, held while the write is in flight. */
+    static final class Reservation {
+
+        private final Long resourceId;
+        private final int start;
+        private final int end;
+        private final int amount;
+        private long loadId;
+
+        Reservation(Long resourceId, LocalDate startDate, LocalDate endDate, int amount) {
+            boolean dated = isDated(startDate, endDate);
+            this.resourceId = resourceId;
+            this.start = dated ? (int) startDate.toEpochDay() : Integer.MIN_VALUE;
+            this.end = dated ? (int) endDate.toEpochDay() : Integer.MAX_VALUE;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Resource;
+import com.pmis.demo.domain.enums.PriorityLevel;
+import com.pmis.demo.dto.LevelingChangeResponse;
+import com.pmis.demo.dto.ResourceDemandRow;
+import com.pmis.demo.dto.ResourceLevelingResponse;
+import com.pmis.demo.dto.TaskScheduleRow;
+import com.pmis.demo.repository.ResourceAllocationRepository;
+import com.pmis.demo.repository.ResourceRepository;
+import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.schedule.CriticalPathSchedule;
+import com.pmis.demo.service.schedule.DependencyGraph;
+import com.pmis.demo.service.schedule.ResourceLeveling;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proposes a resource-leveled schedule for a project without changing any data. Tasks of the project
+ * are moved within their total float; allocations of other projects on the same resources are treated
+ * as fixed usage. Capacity of a resource is its {@code quantity}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceLevelingService {
+
+    private final ScheduleService scheduleService;
+    private final TaskRepository taskRepository;
+    private final ResourceRepository resourceRepository;
+    private final ResourceAllocationRepository allocationRepository;
+
+    @Transactional(readOnly = true)
+    public ResourceLevelingResponse level(Long projectId) {
+        CriticalPathSchedule plan = scheduleService.getSnapshot(projectId);
+        DependencyGraph graph = plan.graph();
+        int n = graph.size();
+        if (n == 0) {
+            return ResourceLevelingResponse.builder()
+                    .projectId(projectId)
+                    .overallocatedResourceDaysBefore(0)
+                    .overallocatedResourceDaysAfter(0)
+                    .changes(List.of())
+                    .unresolvedTaskIds(List.of())
+                    .build();
+        }
+
+        // CRITICAL first when floats tie, tasks without a priority last
+        int[] priorityRank = new int[n];
+        Arrays.fill(priorityRank, PriorityLevel.values().length);
+        for (TaskScheduleRow row : taskRepository.findScheduleRowsByProjectId(projectId)) {
+            int index = graph.indexOf(row.getId());
+            if (index >= 0 && row.getPriority() != null) {
+                priorityRank[index] = PriorityLevel.CRITICAL.ordinal() - row.getPriority().ordinal();
+            }
+        }
+
+        List<ResourceDemandRow> rows = allocationRepository.findDemandRowsForProjectResources(projectId);
+        Map<Long, Integer> resourceIndex = new HashMap<>();
+        for (ResourceDemandRow row : rows) {
+            resourceIndex.putIfAbsent(row.getResourceId(), resourceIndex.size());
+        }
+        int[] capacity = new int[resourceIndex.size()];
+        for (Resource resource : resourceRepository.findAllById(resourceIndex.keySet())) {
+            capacity[resourceIndex.get(resource.getId())] = resource.getQuantity() != null ? resource.getQuantity() : 0;
+        }
+
+        int origin = plan.projectStart();
+        int span = plan.projectFinish() - origin;
+        int[][] background = new int[capacity.length][span];
+        int[] demandOffsets = new int[n + 1];
+        List<ResourceDemandRow> own = new ArrayList<>();
+        for (ResourceDemandRow row : rows) {
+            int r = resourceIndex.get(row.getResourceId());
+            int amount = row.getAmountUsed() != null ? row.getAmountUsed() : 0;
+            int index = projectId.equals(row.getProjectId()) ? graph.indexOf(row.getTaskId()) : -1;
+            if (index >= 0) {
+                demandOffsets[index + 1]++;
+                own.add(row);
+                continue;
+            }
+            // Undated allocations of other projects hold the resource for the whole span
+            int from = row.getStartDate() != null ? (int) row.getStartDate().toEpochDay() - origin : 0;
+            int to = row.getStartDate() != null
+                    ? from + DependencyGraph.durationOf(row.getStartDate(), row.getEndDate()) : span;
+            for (int day = Math.max(0, from); day < Math.min(span, to); day++) {
+                background[r][day] += amount;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            demandOffsets[i + 1] += demandOffsets[i];
+        }
+        int[] next = demandOffsets.clone();
+        int[] demandResource = new int[own.size()];
+        int[] demandAmount = new int[own.size()];
+        for (ResourceDemandRow row : own) {
+            int slot = next[graph.indexOf(row.getTaskId())]++;
+            demandResource[slot] = resourceIndex.get(row.getResourceId());
+            demandAmount[slot] = row.getAmountUsed() != null ? row.getAmountUsed() : 0;
+        }
+
+        ResourceLeveling.Result result = new ResourceLeveling(plan, priorityRank, demandOffsets,
+                demandResource, demandAmount, capacity, background).level();
+
+        List<LevelingChangeResponse> changes = new ArrayList<>();
+        List<Long> unresolved = new ArrayList<>();
+        for (int k = 0; k < n; k++) {
+            int i = graph.topoOrder(k);
+            if (result.isUnresolved(i)) {
+                unresolved.add(graph.taskId(i));
+            }
+            int shift = result.start(i) - plan.earlyStart(i);
+            if (shift == 0) {
+                continue;
+            }
+            changes.add(LevelingChangeResponse.builder()
+                    .taskId(graph.taskId(i))
+                    .previousStart(LocalDate.ofEpochDay(plan.earlyStart(i)))
+                    .previousFinish(LocalDate.ofEpochDay(plan.earlyFinish(i) - 1))
+                    .proposedStart(LocalDate.ofEpochDay(result.start(i)))
+                    .proposedFinish(LocalDate.ofEpochDay(result.start(i) + graph.duration(i) - 1))
+                    .shiftDays(shift)
+                    .totalFloat(plan.totalFloat(i))
+                    .build());
+        }
+        return ResourceLevelingResponse.builder()
+                .projectId(projectId)
+                .projectFinish(LocalDate.ofEpochDay(plan.projectFinish() - 1))
+                .overallocatedResourceDaysBefore(result.overallocatedBefore())
+                .overallocatedResourceDaysAfter(result.overallocatedAfter())
+                .changes(changes)
+                .unresolvedTaskIds(unresolved)
+                .build();
+    }
+}
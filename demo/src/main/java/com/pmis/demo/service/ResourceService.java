@@ -2,33 +2,55 @@ package com.pmis.demo.service;
 
 import com.pmis.demo.domain.entity.Resource;
 import com.pmis.demo.domain.entity.ResourceAllocation;
-import com.pmis.demo.domain.entity.Task;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.dto.ResourceAllocationRequest;
 import com.pmis.demo.dto.ResourceAllocationResponse;
 import com.pmis.demo.dto.ResourceResponse;
+import com.pmis.demo.dto.TaskScheduleRow;
 import com.pmis.demo.repository.ResourceAllocationRepository;
 import com.pmis.demo.repository.ResourceRepository;
 import com.pmis.demo.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ResourceService {
 
+    private static final int MAX_BATCH_ALLOCATIONS = 1000;
+    private static final String INSERT_ALLOCATION_SQL =
+            "insert into resource_allocation (task_id, resource_id, amount_used) values (?, ?, ?)";
+    // Guarded by the amount read earlier in the transaction; 0 rows means a concurrent change
+    private static final String UPDATE_ALLOCATION_SQL =
+            "update resource_allocation set amount_used = ? where task_id = ? and resource_id = ? and amount_used = ?";
+
     private final ResourceRepository resourceRepository;
     private final ResourceAllocationRepository allocationRepository;
     private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceCapacityService capacityService;
 
     public Resource create(Resource resource) {
         return resourceRepository.save(resource);
     }
 
-    public List<ResourceResponse> getAll() {
-        return resourceRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<ResourceResponse> getAll(String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                resourceRepository.findByIdGreaterThanOrderByIdAsc(PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, resource -> PageCursor.ofId(resource.getId()));
     }
 
     public ResourceResponse getById(Long id) {
@@ -40,28 +62,82 @@ public class ResourceService {
         resource.setName(update.getName());
         resource.setType(update.getType());
         resource.setQuantity(update.getQuantity());
-        return resourceRepository.save(resource);
+        Resource saved = resourceRepository.save(resource);
+        capacityService.evict(List.of(id));
+        return saved;
     }
 
     public void delete(Long id) {
         resourceRepository.deleteById(id);
+        capacityService.evict(List.of(id));
     }
 
     // 자원 할당 관련
 
-    public ResourceAllocation allocateToTask(Long taskId, Long resourceId, Integer amountUsed) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found"));
-        Resource resource = resourceRepository.findById(resourceId)
-                .orElseThrow(() -> new IllegalArgumentException("Resource not found"));
-
-        ResourceAllocation allocation = ResourceAllocation.builder()
-                .task(task)
-                .resource(resource)
-                .amountUsed(amountUsed)
-                .build();
+    public ResourceAllocationResponse allocateToTask(Long taskId, Long resourceId, Integer amountUsed) {
+        ResourceAllocationRequest request = new ResourceAllocationRequest();
+        request.setTaskId(taskId);
+        request.setResourceId(resourceId);
+        request.setAmountUsed(amountUsed);
+        return allocateAll(List.of(request)).get(0);
+    }
 
-        return allocationRepository.save(allocation);
+    /**
+     * Allocates (or re-sizes) many task/resource pairs in one transaction, all or nothing.
+     * A resource's quantity is its capacity on any one day: each growing allocation must fit on every day of
+     * its task's planned dates, so allocations of tasks that have ended no longer count. The check reserves the
+     * growth in memory before the transaction starts instead of locking the resource row, so allocations of a
+     * popular resource only contend for the check itself.
+     */
+    public List<ResourceAllocationResponse> allocateAll(List<ResourceAllocationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one allocation is required");
+        }
+        if (requests.size() > MAX_BATCH_ALLOCATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_ALLOCATIONS + " allocations per request");
+        }
+        Set<List<Long>> pairs = new HashSet<>();
+        for (ResourceAllocationRequest request : requests) {
+            if (request.getTaskId() == null || request.getResourceId() == null) {
+                throw new IllegalArgumentException("Task ID and resource ID are required");
+            }
+            if (request.getAmountUsed() == null || request.getAmountUsed() <= 0) {
+                throw new IllegalArgumentException("amountUsed must be > 0");
+            }
+            if (!pairs.add(List.of(request.getTaskId(), request.getResourceId()))) {
+                throw new IllegalArgumentException("Duplicate allocation for task " + request.getTaskId()
+                        + " and resource " + request.getResourceId());
+            }
+        }
+        List<ResourceAllocationRequest> sorted = new ArrayList<>(requests);
+        sorted.sort(Comparator.comparing(ResourceAllocationRequest::getResourceId)
+                .thenComparing(ResourceAllocationRequest::getTaskId));
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<ResourceCapacityService.Reservation> reservations = plan(sorted, inserts, updates);
+        capacityService.reserve(reservations);
+        boolean committed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(inserts, updates));
+            committed = true;
+        } finally {
+            capacityService.settle(reservations, committed);
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (Resource resource : resourceRepository.findAllById(
+                sorted.stream().map(ResourceAllocationRequest::getResourceId).distinct().toList())) {
+            names.put(resource.getId(), resource.getName());
+        }
+        return sorted.stream()
+                .map(request -> ResourceAllocationResponse.builder()
+                        .taskId(request.getTaskId())
+                        .resourceId(request.getResourceId())
+                        .resourceName(names.get(request.getResourceId()))
+                        .amountUsed(request.getAmountUsed())
+                        .build())
+                .toList();
     }
 
     public List<ResourceAllocationResponse> getAllocationsByTask(Long taskId) {
@@ -70,6 +146,64 @@ public class ResourceService {
                 .toList();
     }
 
+    // Reads outside any transaction, so the capacity check starts from every allocation committed so far
+    private List<ResourceCapacityService.Reservation> plan(List<ResourceAllocationRequest> sorted,
+                                                           List<Object[]> inserts, List<Object[]> updates) {
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> resourceIds = new HashSet<>();
+        for (ResourceAllocationRequest request : sorted) {
+            taskIds.add(request.getTaskId());
+            resourceIds.add(request.getResourceId());
+        }
+        Map<Long, TaskScheduleRow> tasks = new HashMap<>();
+        for (TaskScheduleRow task : taskRepository.findScheduleRowsByIdIn(taskIds)) {
+            tasks.put(task.getId(), task);
+        }
+        Map<List<Long>, Integer> current = new HashMap<>();
+        for (ResourceAllocation allocation : allocationRepository.findByTaskIdInAndResourceIdIn(taskIds, resourceIds)) {
+            current.put(List.of(allocation.getTask().getId(), allocation.getResource().getId()),
+                    allocation.getAmountUsed());
+        }
+
+        List<ResourceCapacityService.Reservation> reservations = new ArrayList<>();
+        for (ResourceAllocationRequest request : sorted) {
+            TaskScheduleRow task = tasks.get(request.getTaskId());
+            if (task == null) {
+                throw new IllegalArgumentException("Task not found: " + request.getTaskId());
+            }
+            Integer previous = current.get(List.of(request.getTaskId(), request.getResourceId()));
+            int amount = request.getAmountUsed();
+            if (previous == null) {
+                inserts.add(new Object[]{request.getTaskId(), request.getResourceId(), amount});
+            } else if (previous != amount) {
+                updates.add(new Object[]{amount, request.getTaskId(), request.getResourceId(), previous});
+            } else {
+                continue;
+            }
+            reservations.add(new ResourceCapacityService.Reservation(request.getResourceId(),
+                    task.getStartDate(), task.getEndDate(), amount - (previous != null ? previous : 0)));
+        }
+        return reservations;
+    }
+
+    // The update guard and the primary key reject the write if another call changed the same pair since plan
+    private void write(List<Object[]> inserts, List<Object[]> updates) {
+        try {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ALLOCATION_SQL, inserts);
+            }
+            if (!updates.isEmpty()) {
+                for (int count : jdbcTemplate.batchUpdate(UPDATE_ALLOCATION_SQL, updates)) {
+                    if (count == 0) {
+                        throw new IllegalArgumentException("Allocation was changed concurrently, please retry");
+                    }
+                }
+            }
+        } catch (DuplicateKeyException ex) {
+            throw new IllegalArgumentException("Allocation was changed concurrently, please retry");
+        }
+    }
+
     private Resource findResource(Long id) {
         return resourceRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Resource not found"));
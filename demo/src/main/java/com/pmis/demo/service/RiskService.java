@@ -6,9 +6,11 @@ import com.pmis.demo.domain.entity.ProjectRisk;
 import com.pmis.demo.domain.enums.RiskLevel;
 import com.pmis.demo.dto.ProjectRiskResponse;
 import com.pmis.demo.repository.EmployeeRepository;
-import com.pmis.demo.repository.ProjectRepository;
 import com.pmis.demo.repository.ProjectRiskRepository;
+import com.pmis.demo.service.feed.FeedEventType;
+import com.pmis.demo.service.feed.ProjectFeedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -18,13 +20,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RiskService {
 
+    private static final String MANAGER_ONLY = "Only the project manager can modify risks for this project";
+
     private final ProjectRiskRepository riskRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectAuthorizationService authorizationService;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectRisk createRisk(Long projectId, Long employeeId, Long ownerId,
                                   String title, String description, RiskLevel level) {
-        Project project = assertManagerAndGet(projectId, employeeId);
+        Project project = authorizationService.assertManagerAndGetReference(projectId, employeeId, MANAGER_ONLY);
 
         Employee owner = null;
         if (ownerId != null) {
@@ -52,7 +57,7 @@ public class RiskService {
     }
 
     public ProjectRisk updateStatus(Long projectId, Long riskId, String status, Long employeeId) {
-        assertManagerAndGet(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
         ProjectRisk risk = riskRepository.findById(riskId)
                 .orElseThrow(() -> new IllegalArgumentException("Risk not found"));
         Long riskProjectId = risk.getProject() != null ? risk.getProject().getId() : null;
@@ -61,7 +66,9 @@ public class RiskService {
         }
         risk.setStatus(status);
         risk.setUpdatedAt(LocalDateTime.now());
-        return riskRepository.save(risk);
+        ProjectRisk saved = riskRepository.save(risk);
+        eventPublisher.publishEvent(new ProjectFeedEvent(FeedEventType.RISK_STATUS, projectId, toResponse(saved)));
+        return saved;
     }
 
     private ProjectRiskResponse toResponse(ProjectRisk risk) {
@@ -79,17 +86,4 @@ public class RiskService {
                 .updatedAt(risk.getUpdatedAt())
                 .build();
     }
-
-    private Project assertManagerAndGet(Long projectId, Long employeeId) {
-        if (employeeId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
-        }
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
-        Long managerId = project.getManager() != null ? project.getManager().getId() : null;
-        if (managerId == null || !managerId.equals(employeeId)) {
-            throw new IllegalArgumentException("Only the project manager can modify risks for this project");
-        }
-        return project;
-    }
 }
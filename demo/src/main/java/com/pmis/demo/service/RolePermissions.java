@@ -0,0 +1,102 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Role;
+import com.pmis.demo.repository.RoleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The role table held in memory as one permission bitmask per role, indexed by role id. The array is
+ * immutable and replaced as a whole whenever a role is created, updated or deleted, so checks are a
+ * plain array read with no query and no locking.
+ */
+@Component
+public class RolePermissions {
+
+    public static final int READ = 1;
+    public static final int WRITE = 1 << 1;
+    public static final int DELETE = 1 << 2;
+    // Set for every role that exists, so a role without rights is still distinguishable from a missing one
+    private static final int EXISTS = 1 << 7;
+
+    private final RoleRepository roleRepository;
+    private final AtomicReference<byte[]> masks = new AtomicReference<>();
+
+    public RolePermissions(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /** Re-reads the role table; called after every role write. */
+    public synchronized void reload() {
+        List<Role> roles = roleRepository.findAll();
+        long maxId = 0;
+        for (Role role : roles) {
+            maxId = Math.max(maxId, role.getId());
+        }
+        byte[] next = new byte[(int) maxId + 1];
+        for (Role role : roles) {
+            int mask = EXISTS;
+            if (Boolean.TRUE.equals(role.getCanRead())) mask |= READ;
+            if (Boolean.TRUE.equals(role.getCanWrite())) mask |= WRITE;
+            if (Boolean.TRUE.equals(role.getCanDelete())) mask |= DELETE;
+            next[role.getId().intValue()] = (byte) mask;
+        }
+        masks.set(next);
+    }
+
+    public boolean exists(Long roleId) {
+        return (mask(roleId) & EXISTS) != 0;
+    }
+
+    public boolean canRead(Long roleId) {
+        return (mask(roleId) & READ) != 0;
+    }
+
+    public boolean canWrite(Long roleId) {
+        return (mask(roleId) & WRITE) != 0;
+    }
+
+    public boolean canDelete(Long roleId) {
+        return (mask(roleId) & DELETE) != 0;
+    }
+
+    /** Ids of the roles carrying every bit of {@code permission}. */
+    public List<Long> rolesWith(int permission) {
+        byte[] current = snapshot();
+        List<Long> ids = new ArrayList<>();
+        for (int id = 0; id < current.length; id++) {
+            if ((current[id] & permission) == permission && (current[id] & EXISTS) != 0) {
+                ids.add((long) id);
+            }
+        }
+        return ids;
+    }
+
+    private int mask(Long roleId) {
+        byte[] current = snapshot();
+        if (roleId == null || roleId < 0 || roleId >= current.length) {
+            return 0;
+        }
+        return current[roleId.intValue()];
+    }
+
+    private byte[] snapshot() {
+        byte[] current = masks.get();
+        if (current == null) {
+            // Checked before the application finished starting
+            reload();
+            current = masks.get();
+        }
+        return current;
+    }
+}
@@ -14,11 +14,16 @@ import java.util.List;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final TaskAccessIndex accessIndex;
+    private final AssignmentIntervalIndex intervalIndex;
+    private final RolePermissions rolePermissions;
 
     public Role create(Role role) {
         role.setName(normalizeRoleName(role.getName()));
         applyDefaultPermissions(role);
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        rolePermissions.reload();
+        return saved;
     }
 
     public List<RoleResponse> getAll() {
@@ -38,11 +43,17 @@ public class RoleService {
         if (update.getCanRead() != null) role.setCanRead(update.getCanRead());
         if (update.getCanWrite() != null) role.setCanWrite(update.getCanWrite());
         if (update.getCanDelete() != null) role.setCanDelete(update.getCanDelete());
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        rolePermissions.reload();
+        accessIndex.invalidateAll();
+        return saved;
     }
 
     public void delete(Long id) {
         roleRepository.deleteById(id);
+        rolePermissions.reload();
+        accessIndex.invalidateAll();
+        intervalIndex.invalidateAll();
     }
 
     private Role findRole(Long id) {
@@ -0,0 +1,225 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Project;
+import com.pmis.demo.domain.entity.ProjectMilestone;
+import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.ProjectMilestoneResponse;
+import com.pmis.demo.dto.ProjectScheduleResponse;
+import com.pmis.demo.dto.SlipImpactResponse;
+import com.pmis.demo.dto.TaskDateChangeResponse;
+import com.pmis.demo.dto.TaskScheduleResponse;
+import com.pmis.demo.dto.TaskSlipRequest;
+import com.pmis.demo.repository.ProjectMilestoneRepository;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.TaskDependencyRepository;
+import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.schedule.CriticalPathSchedule;
+import com.pmis.demo.service.schedule.DependencyGraph;
+import com.pmis.demo.service.schedule.IncrementalSchedule;
+import com.pmis.demo.service.schedule.ProjectScheduleCache;
+import com.pmis.demo.service.schedule.ScheduleChange;
+import com.pmis.demo.service.schedule.SlipImpact;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final ProjectMilestoneRepository milestoneRepository;
+    private final ProjectScheduleCache scheduleCache;
+
+    @Transactional(readOnly = true)
+    public ProjectScheduleResponse getSchedule(Long projectId) {
+        return toResponse(projectId, schedule(projectId).snapshot());
+    }
+
+    @Transactional(readOnly = true)
+    public DependencyGraph getGraph(Long projectId) {
+        return schedule(projectId).graph();
+    }
+
+    @Transactional(readOnly = true)
+    public CriticalPathSchedule getSnapshot(Long projectId) {
+        return schedule(projectId).snapshot();
+    }
+
+    @Transactional(readOnly = true)
+    public SlipImpactResponse analyzeSlip(Long projectId, TaskSlipRequest request) {
+        return analyzeSlips(projectId, List.of(request)).get(0);
+    }
+
+    // Candidates only read the shared snapshot, so they are evaluated in parallel
+    @Transactional(readOnly = true)
+    public List<SlipImpactResponse> analyzeSlips(Long projectId, List<TaskSlipRequest> requests) {
+        CriticalPathSchedule schedule = schedule(projectId).snapshot();
+        List<ProjectMilestone> milestones = milestoneRepository.findByProjectId(projectId).stream()
+                .filter(milestone -> !Boolean.TRUE.equals(milestone.getIsCompleted()))
+                .toList();
+        for (TaskSlipRequest request : requests) {
+            if (request.getTaskId() == null || schedule.graph().indexOf(request.getTaskId()) < 0) {
+                throw new IllegalArgumentException("Task not found in project");
+            }
+            if (request.getSlipDays() == null || request.getSlipDays() < 0) {
+                throw new IllegalArgumentException("Slip days must not be negative");
+            }
+        }
+        return requests.parallelStream()
+                .map(request -> toSlipResponse(projectId, schedule, milestones, request))
+                .toList();
+    }
+
+    // Must run before the write so the cached schedule still reflects the old state
+    @Transactional(readOnly = true)
+    public void ensureLoaded(Long projectId) {
+        schedule(projectId);
+    }
+
+    public List<TaskDateChangeResponse> onDependencyAdded(Long projectId, Long predecessorTaskId, Long successorTaskId,
+                                                          DependencyType type, Integer lagDays) {
+        IncrementalSchedule schedule = scheduleCache.getIfPresent(projectId);
+        if (schedule == null) {
+            return List.of();
+        }
+        try {
+            return toChangeResponses(schedule.addEdge(predecessorTaskId, successorTaskId,
+                    DependencyGraph.encode(type), lagDays != null ? lagDays : 0));
+        } catch (IllegalArgumentException ex) {
+            scheduleCache.evict(projectId);
+            return List.of();
+        }
+    }
+
+    public List<TaskDateChangeResponse> onDependencyRemoved(Long projectId, Long predecessorTaskId, Long successorTaskId) {
+        IncrementalSchedule schedule = scheduleCache.getIfPresent(projectId);
+        if (schedule == null) {
+            return List.of();
+        }
+        return toChangeResponses(schedule.removeEdge(predecessorTaskId, successorTaskId));
+    }
+
+    public List<TaskDateChangeResponse> onTaskDatesChanged(Long projectId, Long taskId,
+                                                           LocalDate startDate, LocalDate endDate) {
+        IncrementalSchedule schedule = scheduleCache.getIfPresent(projectId);
+        if (schedule == null) {
+            return List.of();
+        }
+        if (!schedule.contains(taskId)) {
+            scheduleCache.evict(projectId);
+            return List.of();
+        }
+        Integer start = startDate != null ? (int) startDate.toEpochDay() : null;
+        return toChangeResponses(schedule.updateTask(taskId, start, DependencyGraph.durationOf(startDate, endDate)));
+    }
+
+    // Checked against the cached working graph, so no copy of it is published per dependency insert
+    @Transactional(readOnly = true)
+    public boolean wouldCreateCycle(Long projectId, Long predecessorTaskId, Long successorTaskId) {
+        return schedule(projectId).reaches(successorTaskId, predecessorTaskId);
+    }
+
+    public void evict(Long projectId) {
+        scheduleCache.evict(projectId);
+    }
+
+    private IncrementalSchedule schedule(Long projectId) {
+        return scheduleCache.get(projectId, this::loadGraph);
+    }
+
+    private DependencyGraph loadGraph(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        return DependencyGraph.build(
+                taskRepository.findScheduleRowsByProjectId(projectId),
+                dependencyRepository.findEdgesByProjectId(projectId),
+                project.getStartDate()
+        );
+    }
+
+    private ProjectScheduleResponse toResponse(Long projectId, CriticalPathSchedule schedule) {
+        DependencyGraph graph = schedule.graph();
+        List<TaskScheduleResponse> tasks = new ArrayList<>(graph.size());
+        for (int i = 0; i < graph.size(); i++) {
+            tasks.add(toTaskResponse(schedule, i));
+        }
+        List<Long> criticalPath = new ArrayList<>();
+        for (int k = 0; k < graph.size(); k++) {
+            int i = graph.topoOrder(k);
+            if (schedule.isCritical(i)) {
+                criticalPath.add(graph.taskId(i));
+            }
+        }
+        boolean empty = graph.size() == 0;
+        return ProjectScheduleResponse.builder()
+                .projectId(projectId)
+                .projectStart(empty ? null : LocalDate.ofEpochDay(schedule.projectStart()))
+                .projectFinish(empty ? null : LocalDate.ofEpochDay(schedule.projectFinish() - 1))
+                .tasks(tasks)
+                .criticalPath(criticalPath)
+                .build();
+    }
+
+    private TaskScheduleResponse toTaskResponse(CriticalPathSchedule schedule, int i) {
+        return TaskScheduleResponse.builder()
+                .taskId(schedule.graph().taskId(i))
+                .earlyStart(LocalDate.ofEpochDay(schedule.earlyStart(i)))
+                .earlyFinish(LocalDate.ofEpochDay(schedule.earlyFinish(i) - 1))
+                .lateStart(LocalDate.ofEpochDay(schedule.lateStart(i)))
+                .lateFinish(LocalDate.ofEpochDay(schedule.lateFinish(i) - 1))
+                .totalFloat(schedule.totalFloat(i))
+                .critical(schedule.isCritical(i))
+                .build();
+    }
+
+    private SlipImpactResponse toSlipResponse(Long projectId, CriticalPathSchedule schedule,
+                                              List<ProjectMilestone> milestones, TaskSlipRequest request) {
+        int index = schedule.graph().indexOf(request.getTaskId());
+        SlipImpact impact = SlipImpact.evaluate(schedule, index, request.getSlipDays());
+
+        // A milestone is breached when an affected task used to finish by its due date and no longer does
+        List<ProjectMilestoneResponse> breached = new ArrayList<>();
+        for (ProjectMilestone milestone : milestones) {
+            int due = (int) milestone.getDueDate().toEpochDay();
+            for (ScheduleChange change : impact.changes()) {
+                if (change.getPreviousFinish() - 1 <= due && change.getEarlyFinish() - 1 > due) {
+                    breached.add(ProjectMilestoneResponse.builder()
+                            .id(milestone.getId())
+                            .projectId(projectId)
+                            .name(milestone.getName())
+                            .dueDate(milestone.getDueDate())
+                            .isCompleted(milestone.getIsCompleted())
+                            .build());
+                    break;
+                }
+            }
+        }
+        return SlipImpactResponse.builder()
+                .taskId(request.getTaskId())
+                .slipDays(request.getSlipDays())
+                .affectedTasks(toChangeResponses(impact.changes()))
+                .breachedMilestones(breached)
+                .previousProjectFinish(LocalDate.ofEpochDay(schedule.projectFinish() - 1))
+                .projectFinish(LocalDate.ofEpochDay(impact.projectFinish() - 1))
+                .build();
+    }
+
+    private List<TaskDateChangeResponse> toChangeResponses(List<ScheduleChange> changes) {
+        return changes.stream()
+                .map(change -> TaskDateChangeResponse.builder()
+                        .taskId(change.getTaskId())
+                        .previousStart(LocalDate.ofEpochDay(change.getPreviousStart()))
+                        .previousFinish(LocalDate.ofEpochDay(change.getPreviousFinish() - 1))
+                        .earlyStart(LocalDate.ofEpochDay(change.getEarlyStart()))
+                        .earlyFinish(LocalDate.ofEpochDay(change.getEarlyFinish() - 1))
+                        .build())
+                .toList();
+    }
+}
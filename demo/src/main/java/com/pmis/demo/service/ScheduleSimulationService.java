@@ -0,0 +1,152 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Project;
+import com.pmis.demo.domain.entity.ProjectMilestone;
+import com.pmis.demo.domain.enums.ProjectStatus;
+import com.pmis.demo.domain.enums.RiskLevel;
+import com.pmis.demo.dto.MilestoneForecastResponse;
+import com.pmis.demo.dto.ScheduleSimulationResponse;
+import com.pmis.demo.repository.ProjectMilestoneRepository;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.ProjectRiskRepository;
+import com.pmis.demo.service.schedule.CriticalPathSchedule;
+import com.pmis.demo.service.schedule.DependencyGraph;
+import com.pmis.demo.service.schedule.MonteCarloSchedule;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class ScheduleSimulationService {
+
+    // Three-point estimate around the planned duration; open HIGH/CRITICAL risks stretch the pessimistic tail
+    private static final double OPTIMISTIC_FACTOR = 0.8;
+    private static final double PESSIMISTIC_FACTOR = 1.5;
+    private static final double HIGH_RISK_WIDENING = 0.25;
+    private static final double CRITICAL_RISK_WIDENING = 0.5;
+    private static final double MAX_PESSIMISTIC_FACTOR = 3.0;
+    private static final int MAX_ITERATIONS = 200_000;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMilestoneRepository milestoneRepository;
+    private final ProjectRiskRepository riskRepository;
+    private final ScheduleService scheduleService;
+    private final ForkJoinPool pool;
+    private final int nightlyIterations;
+    private final Map<Long, ScheduleSimulationResponse> nightly = new ConcurrentHashMap<>();
+
+    public ScheduleSimulationService(ProjectRepository projectRepository,
+                                     ProjectMilestoneRepository milestoneRepository,
+                                     ProjectRiskRepository riskRepository,
+                                     ScheduleService scheduleService,
+                                     @Value("${pmis.simulation.parallelism:0}") int parallelism,
+                                     @Value("${pmis.simulation.nightly-iterations:20000}") int nightlyIterations) {
+        this.projectRepository = projectRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.riskRepository = riskRepository;
+        this.scheduleService = scheduleService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.nightlyIterations = nightlyIterations;
+    }
+
+    public ScheduleSimulationResponse simulate(Long projectId, int iterations) {
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        DependencyGraph graph = scheduleService.getGraph(projectId);
+        List<ProjectMilestone> milestones = milestoneRepository.findByProjectId(projectId).stream()
+                .filter(milestone -> !Boolean.TRUE.equals(milestone.getIsCompleted()))
+                .toList();
+        long highRisks = riskRepository.countByProjectIdAndLevelAndStatus(projectId, RiskLevel.HIGH, "OPEN");
+        long criticalRisks = riskRepository.countByProjectIdAndLevelAndStatus(projectId, RiskLevel.CRITICAL, "OPEN");
+
+        double widening = Math.min(MAX_PESSIMISTIC_FACTOR,
+                PESSIMISTIC_FACTOR + HIGH_RISK_WIDENING * highRisks + CRITICAL_RISK_WIDENING * criticalRisks);
+        int n = graph.size();
+        double[] low = new double[n];
+        double[] mode = new double[n];
+        double[] high = new double[n];
+        for (int i = 0; i < n; i++) {
+            mode[i] = graph.duration(i);
+            low[i] = mode[i] * OPTIMISTIC_FACTOR;
+            high[i] = mode[i] * widening;
+        }
+        int[] due = new int[milestones.size()];
+        for (int k = 0; k < due.length; k++) {
+            due[k] = (int) milestones.get(k).getDueDate().toEpochDay();
+        }
+
+        MonteCarloSchedule.Result result = new MonteCarloSchedule(graph, low, mode, high, due)
+                .run(pool, iterations, projectId * 31 + LocalDate.now().toEpochDay());
+
+        List<MilestoneForecastResponse> forecasts = new ArrayList<>(milestones.size());
+        for (int k = 0; k < due.length; k++) {
+            ProjectMilestone milestone = milestones.get(k);
+            boolean sampled = result.hasSamples(k + 1);
+            forecasts.add(MilestoneForecastResponse.builder()
+                    .milestoneId(milestone.getId())
+                    .name(milestone.getName())
+                    .dueDate(milestone.getDueDate())
+                    .p50(sampled ? finishDate(result.percentile(k + 1, 0.50)) : null)
+                    .p80(sampled ? finishDate(result.percentile(k + 1, 0.80)) : null)
+                    .p95(sampled ? finishDate(result.percentile(k + 1, 0.95)) : null)
+                    .onTimeProbability(sampled ? result.probabilityBy(k + 1, due[k] + 1) : null)
+                    .build());
+        }
+        boolean sampled = result.hasSamples(0);
+        return ScheduleSimulationResponse.builder()
+                .projectId(projectId)
+                .iterations(iterations)
+                .openHighRisks(highRisks)
+                .openCriticalRisks(criticalRisks)
+                .plannedFinish(n > 0 ? finishDate(CriticalPathSchedule.compute(graph).projectFinish()) : null)
+                .p50(sampled ? finishDate(result.percentile(0, 0.50)) : null)
+                .p80(sampled ? finishDate(result.percentile(0, 0.80)) : null)
+                .p95(sampled ? finishDate(result.percentile(0, 0.95)) : null)
+                .milestones(forecasts)
+                .simulatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public ScheduleSimulationResponse getNightly(Long projectId) {
+        ScheduleSimulationResponse response = nightly.get(projectId);
+        if (response == null) {
+            throw new IllegalArgumentException("No simulation result for project");
+        }
+        return response;
+    }
+
+    @Scheduled(cron = "${pmis.simulation.cron:0 0 2 * * *}")
+    public void simulateOngoingProjects() {
+        List<Long> ongoing = projectRepository.findByStatus(ProjectStatus.ONGOING).stream()
+                .map(Project::getId)
+                .toList();
+        nightly.keySet().retainAll(ongoing);
+        for (Long projectId : ongoing) {
+            try {
+                nightly.put(projectId, simulate(projectId, nightlyIterations));
+            } catch (IllegalArgumentException ex) {
+                // Project deleted or its dependencies changed mid-run; retried next night
+                nightly.remove(projectId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private LocalDate finishDate(int exclusiveFinish) {
+        return LocalDate.ofEpochDay(exclusiveFinish - 1);
+    }
+}
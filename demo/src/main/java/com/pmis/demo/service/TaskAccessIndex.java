@@ -0,0 +1,113 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.repository.TaskAssignmentRepository;
+import com.pmis.demo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Employee -> readable task ids, kept as sorted immutable {@code long[]} sets. A task is readable when the
+ * employee manages its project or holds an assignment whose role can read. Sets are built on first use
+ * with two indexed queries and then maintained by the services that change assignments, managers and roles,
+ * so a lookup never touches the database. At most {@code pmis.access.cache-size} employees are kept; the least
+ * recently used set is dropped and rebuilt on its next lookup.
+ */
+@Component
+public class TaskAccessIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final TaskRepository taskRepository;
+    private final TaskAssignmentRepository assignmentRepository;
+    private final RolePermissions rolePermissions;
+    private final GenerationCache<Long, long[]> readable;
+
+    public TaskAccessIndex(TaskRepository taskRepository, TaskAssignmentRepository assignmentRepository,
+                           RolePermissions rolePermissions,
+                           @Value("${pmis.access.cache-size:10000}") int maxEmployees) {
+        this.taskRepository = taskRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.rolePermissions = rolePermissions;
+        this.readable = GenerationCache.lru(maxEmployees);
+    }
+
+    /** Sorted ids of the tasks the employee can read; callers must not modify the array. */
+    public long[] readableTasks(Long employeeId) {
+        return readable.get(employeeId, this::load);
+    }
+
+    public boolean canRead(Long employeeId, Long taskId) {
+        return Arrays.binarySearch(readableTasks(employeeId), taskId) >= 0;
+    }
+
+    public void add(Long employeeId, Long taskId) {
+        readable.update(List.of(employeeId), (id, tasks) -> insert(tasks, taskId));
+    }
+
+    /** Drops the employees' sets so they are rebuilt on next use. */
+    public void invalidate(Collection<Long> employeeIds) {
+        readable.invalidate(employeeIds);
+    }
+
+    public void invalidate(Long employeeId) {
+        invalidate(List.of(employeeId));
+    }
+
+    public void invalidateAll() {
+        readable.invalidateAll();
+    }
+
+    private long[] load(Long employeeId) {
+        List<Long> readableRoles = rolePermissions.rolesWith(RolePermissions.READ);
+        long[] assigned = readableRoles.isEmpty() ? EMPTY
+                : toArray(assignmentRepository.findTaskIdsByEmployeeIdAndRoleIdIn(employeeId, readableRoles));
+        long[] managed = toArray(taskRepository.findIdsByManagerId(employeeId));
+        if (assigned.length == 0 && managed.length == 0) {
+            return EMPTY;
+        }
+        // Union of two sorted sets
+        long[] merged = new long[assigned.length + managed.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < assigned.length || j < managed.length) {
+            long next;
+            if (j == managed.length || (i < assigned.length && assigned[i] < managed[j])) {
+                next = assigned[i++];
+            } else if (i == assigned.length || managed[j] < assigned[i]) {
+                next = managed[j++];
+            } else {
+                next = assigned[i++];
+                j++;
+            }
+            merged[k++] = next;
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        long[] array = new long[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static long[] insert(long[] tasks, long taskId) {
+        int at = Arrays.binarySearch(tasks, taskId);
+        if (at >= 0) {
+            return tasks;
+        }
+        at = -at - 1;
+        long[] grown = new long[tasks.length + 1];
+        System.arraycopy(tasks, 0, grown, 0, at);
+        grown[at] = taskId;
+        System.arraycopy(tasks, at, grown, at + 1, tasks.length - at);
+        return grown;
+    }
+}
@@ -8,13 +8,18 @@ import com.pmis.demo.domain.entity.TaskAssignmentId;
 import com.pmis.demo.dto.TaskResponseForEmployee;
 import com.pmis.demo.dto.TaskAssignmentByEmployeeResponse;
 import com.pmis.demo.dto.TaskAssignmentByTaskResponse;
+import com.pmis.demo.dto.TaskOverlapResponse;
 import com.pmis.demo.repository.EmployeeRepository;
 import com.pmis.demo.repository.RoleRepository;
 import com.pmis.demo.repository.TaskAssignmentRepository;
 import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.schedule.DependencyGraph;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -25,23 +30,55 @@ public class TaskAssignmentService {
     private final TaskRepository taskRepository;
     private final EmployeeRepository employeeRepository;
     private final RoleRepository roleRepository;
+    private final ProjectAuthorizationService authorizationService;
+    private final TaskAccessIndex accessIndex;
+    private final RolePermissions rolePermissions;
+    private final AssignmentIntervalIndex intervalIndex;
 
     public TaskAssignment assign(Long taskId, Long employeeId, Long roleId, Long requesterId) {
+        return assign(taskId, employeeId, roleId, requesterId, false);
+    }
+
+    /** With {@code rejectOverlaps}, refuses employees already assigned to a task whose dates overlap this one. */
+    public TaskAssignment assign(Long taskId, Long employeeId, Long roleId, Long requesterId, boolean rejectOverlaps) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
         assertManager(task, requesterId);
 
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
-        Role role = roleRepository.findById(roleId)
-                .orElseThrow(() -> new IllegalArgumentException("Role not found"));
+        if (!rolePermissions.exists(roleId)) {
+            throw new IllegalArgumentException("Role not found");
+        }
+        if (!rejectOverlaps) {
+            return save(task, employee, roleId);
+        }
+        // The check and the insert run under the employee's lock, so two overlapping assigns cannot both pass
+        return intervalIndex.withEmployeeLock(employeeId, () -> {
+            List<AssignmentIntervalIndex.Span> overlaps =
+                    intervalIndex.overlapping(employeeId, taskId, task.getStartDate(), task.getEndDate());
+            if (!overlaps.isEmpty()) {
+                throw new IllegalArgumentException("Employee is already assigned to overlapping tasks: "
+                        + overlaps.stream().map(AssignmentIntervalIndex.Span::getTaskId).toList());
+            }
+            return save(task, employee, roleId);
+        });
+    }
+
+    private TaskAssignment save(Task task, Employee employee, Long roleId) {
+        Role role = roleRepository.getReferenceById(roleId);
 
         TaskAssignment assignment = TaskAssignment.builder()
                 .task(task)
                 .employee(employee)
                 .role(role)
                 .build();
-        return assignmentRepository.save(assignment);
+        TaskAssignment saved = assignmentRepository.save(assignment);
+        if (rolePermissions.canRead(roleId)) {
+            accessIndex.add(employee.getId(), task.getId());
+        }
+        intervalIndex.add(employee.getId(), task.getId(), task.getStartDate(), task.getEndDate());
+        return saved;
     }
 
     public List<TaskAssignmentByTaskResponse> getByTask(Long taskId) {
@@ -55,10 +92,14 @@ public class TaskAssignmentService {
     }
 
     public List<TaskAssignmentByEmployeeResponse> getByEmployee(Long employeeId) {
-        return assignmentRepository.findByEmployeeId(employeeId).stream()
-                .map(assignment -> TaskAssignmentByEmployeeResponse.builder()
-                        .taskId(assignment.getTask().getId())
-                        .taskName(assignment.getTask().getName())
+        return assignmentRepository.findRowsByEmployeeId(employeeId).stream()
+                .map(row -> TaskAssignmentByEmployeeResponse.builder()
+                        .taskId(row.getTaskId())
+                        .taskName(row.getTaskName())
+                        .projectId(row.getProjectId())
+                        .roleId(row.getRoleId())
+                        .startDate(row.getStartDate())
+                        .endDate(row.getEndDate())
                         .build())
                 .toList();
     }
@@ -70,27 +111,80 @@ public class TaskAssignmentService {
 
         TaskAssignmentId id = new TaskAssignmentId(taskId, employeeId, roleId);
         assignmentRepository.deleteById(id);
+        // Another assignment or project management may still grant access, so rebuild rather than remove
+        accessIndex.invalidate(employeeId);
+        // The employee may still hold the task under another role
+        if (!assignmentRepository.existsByTaskIdAndEmployeeId(taskId, employeeId)) {
+            intervalIndex.remove(employeeId, taskId);
+        }
     }
 
     public List<TaskResponseForEmployee> getAssignedTasks(Long employeeId) {
-        return assignmentRepository.findByEmployeeId(employeeId).stream()
-                .map(assignment -> TaskResponseForEmployee.builder()
-                        .id(assignment.getTask().getId())
-                        .name(assignment.getTask().getName())
-                        .projectId(assignment.getTask().getProject() != null
-                                ? assignment.getTask().getProject().getId() : null)
+        return assignmentRepository.findRowsByEmployeeId(employeeId).stream()
+                .map(row -> TaskResponseForEmployee.builder()
+                        .id(row.getTaskId())
+                        .name(row.getTaskName())
+                        .projectId(row.getProjectId())
                         .build())
                 .toList();
     }
 
-    private void assertManager(Task task, Long requesterId) {
-        if (requesterId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
+    public List<TaskResponseForEmployee> getAccessibleTasks(Long employeeId) {
+        long[] taskIds = accessIndex.readableTasks(employeeId);
+        List<Long> ids = new ArrayList<>(taskIds.length);
+        for (long taskId : taskIds) {
+            ids.add(taskId);
         }
-        Long managerId = task.getProject() != null && task.getProject().getManager() != null
-                ? task.getProject().getManager().getId() : null;
-        if (managerId == null || !managerId.equals(requesterId)) {
+        return taskRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Task::getId))
+                .map(task -> TaskResponseForEmployee.builder()
+                        .id(task.getId())
+                        .name(task.getName())
+                        .projectId(task.getProject() != null ? task.getProject().getId() : null)
+                        .build())
+                .toList();
+    }
+
+    /** Tasks already assigned to the employee whose dates overlap the given task. */
+    public List<TaskOverlapResponse> getOverlaps(Long employeeId, Long taskId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found"));
+        if (task.getStartDate() == null) {
+            return List.of();
+        }
+        int start = (int) task.getStartDate().toEpochDay();
+        AssignmentIntervalIndex.Span candidate = new AssignmentIntervalIndex.Span(taskId, start,
+                start + DependencyGraph.durationOf(task.getStartDate(), task.getEndDate()));
+        return intervalIndex.overlapping(employeeId, taskId, candidate.getStart(), candidate.getEnd()).stream()
+                .map(other -> toOverlapResponse(candidate, other))
+                .toList();
+    }
+
+    /** Every pair of overlapping tasks the employee is assigned to, across all projects. */
+    public List<TaskOverlapResponse> getDoubleBookings(Long employeeId) {
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new IllegalArgumentException("Employee not found");
+        }
+        return intervalIndex.overlappingPairs(employeeId).stream()
+                .map(pair -> toOverlapResponse(pair[0], pair[1]))
+                .toList();
+    }
+
+    private TaskOverlapResponse toOverlapResponse(AssignmentIntervalIndex.Span task, AssignmentIntervalIndex.Span other) {
+        return TaskOverlapResponse.builder()
+                .taskId(task.getTaskId())
+                .overlappingTaskId(other.getTaskId())
+                .overlapStart(LocalDate.ofEpochDay(Math.max(task.getStart(), other.getStart())))
+                .overlapEnd(LocalDate.ofEpochDay(Math.min(task.getEnd(), other.getEnd()) - 1))
+                .build();
+    }
+
+    private void assertManager(Task task, Long requesterId) {
+        if (task.getProject() == null) {
             throw new IllegalArgumentException("Only the project manager can modify task assignments");
         }
+        // getId() on the lazy project proxy does not load the project
+        authorizationService.assertManager(task.getProject().getId(), requesterId,
+                "Only the project manager can modify task assignments");
     }
 }
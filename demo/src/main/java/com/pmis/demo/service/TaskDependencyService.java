@@ -1,36 +1,69 @@
 package com.pmis.demo.service;
 
-import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.entity.Task;
 import com.pmis.demo.domain.entity.TaskDependency;
 import com.pmis.demo.domain.entity.TaskDependencyId;
 import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.DependencyEdgeRequest;
+import com.pmis.demo.dto.DependencyValidationResponse;
+import com.pmis.demo.dto.ProjectDependencyGraphResponse;
+import com.pmis.demo.dto.TaskDependencyChangeResponse;
+import com.pmis.demo.dto.TaskDependencyEdge;
 import com.pmis.demo.dto.TaskDependencyResponse;
 import com.pmis.demo.repository.ProjectRepository;
 import com.pmis.demo.repository.TaskDependencyRepository;
 import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.schedule.CycleDetector;
+import com.pmis.demo.service.schedule.DependencyGraph;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TaskDependencyService {
 
+    private static final String MANAGER_ONLY = "Only the project manager can modify task dependencies";
+
     private final TaskRepository taskRepository;
     private final TaskDependencyRepository dependencyRepository;
     private final ProjectRepository projectRepository;
+    private final ScheduleService scheduleService;
+    private final ProjectAuthorizationService authorizationService;
 
-    public TaskDependency addDependency(Long successorTaskId, Long employeeId, Long predecessorTaskId,
-                                        DependencyType type, Integer lagDays) {
+    // The project row lock makes the cycle check and the insert one step: without it, A->B and B->A added
+    // concurrently would each pass the check against a graph lacking the other edge
+    @Transactional
+    public TaskDependencyChangeResponse addDependency(Long successorTaskId, Long employeeId, Long predecessorTaskId,
+                                                      DependencyType type, Integer lagDays) {
+        if (predecessorTaskId != null && predecessorTaskId.equals(successorTaskId)) {
+            throw new IllegalArgumentException("A task cannot depend on itself");
+        }
         Task predecessor = taskRepository.findById(predecessorTaskId)
                 .orElseThrow(() -> new IllegalArgumentException("Predecessor task not found"));
         Task successor = taskRepository.findById(successorTaskId)
                 .orElseThrow(() -> new IllegalArgumentException("Successor task not found"));
 
         Long projectId = getSameProjectId(predecessor, successor);
-        assertManager(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        assertNoCycle(projectId, predecessorTaskId, successorTaskId);
+        // The cached schedule is patched before commit; drop it if the insert does not commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    scheduleService.evict(projectId);
+                }
+            }
+        });
 
         TaskDependency dependency = TaskDependency.builder()
                 .predecessor(predecessor)
@@ -38,30 +71,125 @@ public class TaskDependencyService {
                 .type(type)
                 .lagDays(lagDays)
                 .build();
-        return dependencyRepository.save(dependency);
+        TaskDependency saved = dependencyRepository.save(dependency);
+        return TaskDependencyChangeResponse.builder()
+                .dependency(toResponse(saved))
+                .rescheduled(scheduleService.onDependencyAdded(projectId, predecessorTaskId, successorTaskId,
+                        type, lagDays))
+                .build();
+    }
+
+    public List<DependencyValidationResponse> validateDependencies(Long projectId, List<DependencyEdgeRequest> edges) {
+        DependencyGraph graph = scheduleService.getGraph(projectId);
+        List<Integer> candidates = new ArrayList<>();
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        String[] reasons = new String[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            DependencyEdgeRequest edge = edges.get(i);
+            int u = edge.getPredecessorTaskId() != null ? graph.indexOf(edge.getPredecessorTaskId()) : -1;
+            int v = edge.getSuccessorTaskId() != null ? graph.indexOf(edge.getSuccessorTaskId()) : -1;
+            if (u < 0 || v < 0) {
+                reasons[i] = "Tasks must belong to the same project";
+            } else if (u == v) {
+                reasons[i] = "A task cannot depend on itself";
+            } else {
+                from[candidates.size()] = u;
+                to[candidates.size()] = v;
+                candidates.add(i);
+            }
+        }
+        boolean[] cyclic = CycleDetector.closesCycle(graph,
+                Arrays.copyOf(from, candidates.size()), Arrays.copyOf(to, candidates.size()));
+        for (int k = 0; k < candidates.size(); k++) {
+            if (cyclic[k]) {
+                reasons[candidates.get(k)] = "Dependency would create a cycle";
+            }
+        }
+
+        List<DependencyValidationResponse> results = new ArrayList<>(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            results.add(DependencyValidationResponse.builder()
+                    .predecessorTaskId(edges.get(i).getPredecessorTaskId())
+                    .successorTaskId(edges.get(i).getSuccessorTaskId())
+                    .valid(reasons[i] == null)
+                    .reason(reasons[i])
+                    .build());
+        }
+        return results;
     }
 
     public List<TaskDependencyResponse> getDependencies(Long successorTaskId) {
-        return dependencyRepository.findBySuccessorId(successorTaskId).stream()
-                .map(dep -> TaskDependencyResponse.builder()
-                        .predecessorTaskId(dep.getPredecessor().getId())
-                        .successorTaskId(dep.getSuccessor().getId())
-                        .type(dep.getType())
-                        .lagDays(dep.getLagDays())
+        return dependencyRepository.findEdgesBySuccessorId(successorTaskId).stream()
+                .map(edge -> TaskDependencyResponse.builder()
+                        .predecessorTaskId(edge.getPredecessorTaskId())
+                        .successorTaskId(edge.getSuccessorTaskId())
+                        .type(edge.getType())
+                        .lagDays(edge.getLagDays())
                         .build())
                 .toList();
     }
 
-    public void deleteDependency(Long successorTaskId, Long predecessorTaskId, Long employeeId) {
+    public ProjectDependencyGraphResponse getProjectDependencies(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        List<TaskDependencyEdge> edges = dependencyRepository.findEdgesByProjectId(projectId);
+        int m = edges.size();
+        long[] predecessors = new long[m];
+        long[] successors = new long[m];
+        DependencyType[] types = new DependencyType[m];
+        int[] lags = new int[m];
+        for (int i = 0; i < m; i++) {
+            TaskDependencyEdge edge = edges.get(i);
+            predecessors[i] = edge.getPredecessorTaskId();
+            successors[i] = edge.getSuccessorTaskId();
+            types[i] = edge.getType();
+            lags[i] = edge.getLagDays() != null ? edge.getLagDays() : 0;
+        }
+        return ProjectDependencyGraphResponse.builder()
+                .projectId(projectId)
+                .edgeCount(m)
+                .predecessorTaskIds(predecessors)
+                .successorTaskIds(successors)
+                .types(types)
+                .lagDays(lags)
+                .build();
+    }
+
+    public TaskDependencyChangeResponse deleteDependency(Long successorTaskId, Long predecessorTaskId, Long employeeId) {
         Task predecessor = taskRepository.findById(predecessorTaskId)
                 .orElseThrow(() -> new IllegalArgumentException("Predecessor task not found"));
         Task successor = taskRepository.findById(successorTaskId)
                 .orElseThrow(() -> new IllegalArgumentException("Successor task not found"));
 
         Long projectId = getSameProjectId(predecessor, successor);
-        assertManager(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
 
-        dependencyRepository.deleteById(new TaskDependencyId(predecessorTaskId, successorTaskId));
+        TaskDependency dependency = dependencyRepository.findById(new TaskDependencyId(predecessorTaskId, successorTaskId))
+                .orElseThrow(() -> new IllegalArgumentException("Dependency not found"));
+        scheduleService.ensureLoaded(projectId);
+        dependencyRepository.delete(dependency);
+        return TaskDependencyChangeResponse.builder()
+                .dependency(toResponse(dependency))
+                .rescheduled(scheduleService.onDependencyRemoved(projectId, predecessorTaskId, successorTaskId))
+                .build();
+    }
+
+    private TaskDependencyResponse toResponse(TaskDependency dependency) {
+        return TaskDependencyResponse.builder()
+                .predecessorTaskId(dependency.getPredecessor().getId())
+                .successorTaskId(dependency.getSuccessor().getId())
+                .type(dependency.getType())
+                .lagDays(dependency.getLagDays())
+                .build();
+    }
+
+    private void assertNoCycle(Long projectId, Long predecessorTaskId, Long successorTaskId) {
+        // Also warms the schedule cache so the write below can be propagated incrementally
+        if (scheduleService.wouldCreateCycle(projectId, predecessorTaskId, successorTaskId)) {
+            throw new IllegalArgumentException("Dependency would create a cycle");
+        }
     }
 
     private Long getSameProjectId(Task predecessor, Task successor) {
@@ -72,16 +200,4 @@ public class TaskDependencyService {
         }
         return preProjectId;
     }
-
-    private void assertManager(Long projectId, Long employeeId) {
-        if (employeeId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
-        }
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
-        Long managerId = project.getManager() != null ? project.getManager().getId() : null;
-        if (managerId == null || !managerId.equals(employeeId)) {
-            throw new IllegalArgumentException("Only the project manager can modify task dependencies");
-        }
-    }
 }
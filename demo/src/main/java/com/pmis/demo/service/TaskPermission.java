@@ -0,0 +1,35 @@
+package com.pmis.demo.service;
+
+public enum TaskPermission {
+    NONE(false, false),
+    READ(true, false),
+    WRITE(false, true),
+    READ_WRITE(true, true);
+
+    private final boolean read;
+    private final boolean write;
+
+    TaskPermission(boolean read, boolean write) {
+        this.read = read;
+        this.write = write;
+    }
+
+    public boolean canRead() {
+        return read;
+    }
+
+    public boolean canWrite() {
+        return write;
+    }
+
+    public static TaskPermission of(boolean read, boolean write) {
+        if (read) {
+            return write ? READ_WRITE : READ;
+        }
+        return write ? WRITE : NONE;
+    }
+
+    public TaskPermission merge(TaskPermission other) {
+        return of(read || other.read, write || other.write);
+    }
+}
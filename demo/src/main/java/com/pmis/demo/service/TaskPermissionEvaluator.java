@@ -0,0 +1,92 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.dto.TaskPermissionRow;
+import com.pmis.demo.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java-side replacement for the check_task_read/write_permission SQL functions. Rights for any number of
+ * tasks are resolved with one query (the employee's assignment roles plus the project manager, with role
+ * flags taken from {@link RolePermissions}) instead of several queries per task. Inside an HTTP request
+ * results are cached for the rest of the request.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskPermissionEvaluator {
+
+    private static final String CACHE_ATTRIBUTE = TaskPermissionEvaluator.class.getName() + ".cache";
+
+    private final TaskRepository taskRepository;
+    private final RolePermissions rolePermissions;
+
+    public TaskPermission evaluate(Long employeeId, Long taskId) {
+        return evaluate(employeeId, List.of(taskId)).getOrDefault(taskId, TaskPermission.NONE);
+    }
+
+    /** Permissions for the given tasks; tasks that do not exist are absent from the result. */
+    public Map<Long, TaskPermission> evaluate(Long employeeId, Collection<Long> taskIds) {
+        Map<Long, TaskPermission> cached = cacheFor(employeeId);
+        List<Long> missing = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            if (!cached.containsKey(taskId)) {
+                missing.add(taskId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fold(taskRepository.findPermissionRowsByIdIn(employeeId, missing), employeeId, cached);
+        }
+        Map<Long, TaskPermission> result = new HashMap<>(taskIds.size() * 2);
+        for (Long taskId : taskIds) {
+            TaskPermission permission = cached.get(taskId);
+            if (permission != null) {
+                result.put(taskId, permission);
+            }
+        }
+        return result;
+    }
+
+    /** Permissions for every task of the project. */
+    public Map<Long, TaskPermission> evaluateProject(Long employeeId, Long projectId) {
+        Map<Long, TaskPermission> result = new HashMap<>();
+        fold(taskRepository.findPermissionRowsByProjectId(employeeId, projectId), employeeId, result);
+        cacheFor(employeeId).putAll(result);
+        return result;
+    }
+
+    private void fold(List<TaskPermissionRow> rows, Long employeeId, Map<Long, TaskPermission> into) {
+        Map<Long, TaskPermission> folded = new HashMap<>(rows.size() * 2);
+        for (TaskPermissionRow row : rows) {
+            boolean manager = employeeId.equals(row.getManagerId());
+            TaskPermission permission = TaskPermission.of(
+                    manager || rolePermissions.canRead(row.getRoleId()),
+                    manager || rolePermissions.canWrite(row.getRoleId()));
+            folded.merge(row.getTaskId(), permission, TaskPermission::merge);
+        }
+        into.putAll(folded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, TaskPermission> cacheFor(Long employeeId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            // Outside a request (scheduled jobs, imports) there is nothing to scope a cache to
+            return new HashMap<>();
+        }
+        Map<Long, Map<Long, TaskPermission>> cache =
+                (Map<Long, Map<Long, TaskPermission>>) request.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<>();
+            request.setAttribute(CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache.computeIfAbsent(employeeId, id -> new HashMap<>());
+    }
+}
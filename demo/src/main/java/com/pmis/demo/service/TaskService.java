@@ -3,54 +3,125 @@ package com.pmis.demo.service;
 import com.pmis.demo.domain.entity.Project;
 import com.pmis.demo.domain.entity.Task;
 import com.pmis.demo.domain.enums.TaskStatus;
+import com.pmis.demo.dto.CursorPage;
+import com.pmis.demo.dto.TaskDateUpdateResponse;
 import com.pmis.demo.dto.TaskResponse;
 import com.pmis.demo.dto.TaskResponseForEmployee;
-import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.TaskAssignmentRepository;
 import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.service.feed.FeedEventType;
+import com.pmis.demo.service.feed.ProjectFeedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final String MANAGER_ONLY = "Only the project manager can modify this project";
+
     private final TaskRepository taskRepository;
-    private final ProjectRepository projectRepository;
+    private final ProjectAuthorizationService authorizationService;
+    private final ScheduleService scheduleService;
+    private final WorkLogRollupService workLogRollupService;
+    private final TaskPermissionEvaluator permissionEvaluator;
+    private final TaskAccessIndex accessIndex;
+    private final TaskAssignmentRepository assignmentRepository;
+    private final ResourceCapacityService capacityService;
+    private final AssignmentIntervalIndex intervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Task createTask(Long projectId, Long employeeId, Task task) {
-        Project project = assertManagerAndGet(projectId, employeeId);
+        Project project = authorizationService.assertManagerAndGetReference(projectId, employeeId, MANAGER_ONLY);
         task.setProject(project);
         if (task.getStatus() == null) {
             task.setStatus(TaskStatus.TODO);
         }
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        scheduleService.evict(projectId);
+        accessIndex.add(employeeId, saved.getId());
+        return saved;
     }
 
-    public List<TaskResponse> getTasksByProject(Long projectId) {
-        return taskRepository.findByProjectId(projectId).stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<TaskResponse> getTasksByProject(Long projectId, String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                taskRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(
+                        projectId, PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, task -> PageCursor.ofId(task.getId()));
     }
 
     public List<TaskResponseForEmployee> getAccessibleTasksByEmployee(Long projectId, Long employeeId) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID is required");
+        }
+        Map<Long, TaskPermission> permissions = permissionEvaluator.evaluateProject(employeeId, projectId);
         return taskRepository.findByProjectId(projectId).stream()
+                .filter(task -> permissions.getOrDefault(task.getId(), TaskPermission.NONE).canRead())
                 .map(this::toEmployeeResponse)
                 .toList();
     }
 
+    public TaskResponse getTaskForEmployee(Long projectId, Long taskId, Long employeeId) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee ID is required");
+        }
+        Task task = findTaskInProject(projectId, taskId);
+        if (!permissionEvaluator.evaluate(employeeId, taskId).canRead()) {
+            throw new IllegalArgumentException("You do not have permission to view this task");
+        }
+        return toResponse(task);
+    }
+
     public Task updateStatus(Long projectId, Long taskId, TaskStatus status, Long employeeId) {
         Task task = findTaskInProject(projectId, taskId);
-        assertManagerAndGet(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
         task.setStatus(status);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(new ProjectFeedEvent(FeedEventType.TASK_STATUS, projectId, toResponse(saved)));
+        return saved;
+    }
+
+    public TaskDateUpdateResponse updateDates(Long projectId, Long taskId, LocalDate startDate, LocalDate endDate,
+                                              Long employeeId) {
+        Task task = findTaskInProject(projectId, taskId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        scheduleService.ensureLoaded(projectId);
+        task.setStartDate(startDate);
+        task.setEndDate(endDate);
+        Task saved = taskRepository.save(task);
+        capacityService.evictForTask(taskId);
+        intervalIndex.update(assignmentRepository.findEmployeeIdsByTaskId(taskId), taskId, startDate, endDate);
+        return TaskDateUpdateResponse.builder()
+                .task(toResponse(saved))
+                .rescheduled(scheduleService.onTaskDatesChanged(projectId, taskId, startDate, endDate))
+                .build();
     }
 
+    @Transactional
     public void deleteTask(Long projectId, Long taskId, Long employeeId) {
         findTaskInProject(projectId, taskId);
-        assertManagerAndGet(projectId, employeeId);
+        authorizationService.assertManager(projectId, employeeId, MANAGER_ONLY);
+        workLogRollupService.removeTask(taskId);
+        // Assignments go with the task through ON DELETE CASCADE
+        List<Long> assignees = assignmentRepository.findEmployeeIdsByTaskId(taskId);
+        List<Long> affected = new ArrayList<>(assignees);
+        affected.add(employeeId);
+        capacityService.evictForTask(taskId);
         taskRepository.deleteById(taskId);
+        scheduleService.evict(projectId);
+        accessIndex.invalidate(affected);
+        intervalIndex.remove(assignees, taskId);
     }
 
     private TaskResponse toResponse(Task task) {
@@ -63,6 +134,7 @@ public class TaskService {
                 .endDate(task.getEndDate())
                 .status(task.getStatus())
                 .priority(task.getPriority())
+                .estimatedHours(task.getEstimatedHours())
                 .build();
     }
 
@@ -75,19 +147,6 @@ public class TaskService {
                 .build();
     }
 
-    private Project assertManagerAndGet(Long projectId, Long employeeId) {
-        if (employeeId == null) {
-            throw new IllegalArgumentException("Employee ID is required");
-        }
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
-        Long managerId = project.getManager() != null ? project.getManager().getId() : null;
-        if (managerId == null || !managerId.equals(employeeId)) {
-            throw new IllegalArgumentException("Only the project manager can modify this project");
-        }
-        return project;
-    }
-
     private Task findTaskInProject(Long projectId, Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
@@ -0,0 +1,160 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.dto.TaskProjectRow;
+import com.pmis.demo.dto.WorkLogDayRow;
+import com.pmis.demo.dto.WorkLogImportError;
+import com.pmis.demo.dto.WorkLogImportResponse;
+import com.pmis.demo.dto.WorkLogImportRow;
+import com.pmis.demo.repository.EmployeeRepository;
+import com.pmis.demo.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk work log import. Entries are read one at a time from a JSON array or NDJSON body and
+ * handled in chunks: ids are checked with one set-based query per chunk, valid rows are inserted with a
+ * JDBC batch (IDENTITY ids rule out Hibernate insert batching) and the rollups are updated once per chunk.
+ * Each chunk commits on its own; invalid entries are skipped and reported. An entry that cannot be parsed
+ * stops the import: the entries before it are still imported, and its position is reported so the caller
+ * can fix it and resend the rest.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkLogImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final BigDecimal MAX_HOURS = new BigDecimal("999.99");
+    private static final String INSERT_SQL =
+            "insert into task_work_log (task_id, employee_id, work_date, hours, note) values (?, ?, ?, ?, ?)";
+
+    private final TaskRepository taskRepository;
+    private final EmployeeRepository employeeRepository;
+    private final WorkLogRollupService rollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public WorkLogImportResponse importLogs(InputStream body) {
+        Result result = new Result();
+        List<WorkLogImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        Long stoppedAtRow = null;
+        String stopReason = null;
+        try (MappingIterator<WorkLogImportRow> rows = objectMapper.readerFor(WorkLogImportRow.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (JacksonException ex) {
+            stoppedAtRow = result.received + chunk.size() + 1;
+            stopReason = ex.getLocation() != null
+                    ? "Malformed entry at line " + ex.getLocation().getLineNr()
+                            + ", column " + ex.getLocation().getColumnNr()
+                    : "Malformed entry";
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        return WorkLogImportResponse.builder()
+                .received(result.received)
+                .inserted(result.inserted)
+                .rejected(result.received - result.inserted)
+                .errors(result.errors)
+                .stoppedAtRow(stoppedAtRow)
+                .stopReason(stopReason)
+                .build();
+    }
+
+    private void importChunk(List<WorkLogImportRow> chunk, Result result) {
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> employeeIds = new HashSet<>();
+        for (WorkLogImportRow row : chunk) {
+            if (row.getTaskId() != null) {
+                taskIds.add(row.getTaskId());
+            }
+            if (row.getEmployeeId() != null) {
+                employeeIds.add(row.getEmployeeId());
+            }
+        }
+        Map<Long, Long> projectByTask = new HashMap<>();
+        Set<Long> employees = new HashSet<>();
+        if (!taskIds.isEmpty()) {
+            for (TaskProjectRow task : taskRepository.findProjectIdsByIdIn(taskIds)) {
+                projectByTask.put(task.getTaskId(), task.getProjectId());
+            }
+        }
+        if (!employeeIds.isEmpty()) {
+            employees.addAll(employeeRepository.findExistingIds(employeeIds));
+        }
+
+        List<Object[]> inserts = new ArrayList<>(chunk.size());
+        List<WorkLogDayRow> days = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            WorkLogImportRow row = chunk.get(i);
+            String reason = validate(row, projectByTask, employees);
+            if (reason != null) {
+                result.reject(result.received + i + 1, reason);
+                continue;
+            }
+            inserts.add(new Object[]{
+                    row.getTaskId(), row.getEmployeeId(), Date.valueOf(row.getWorkDate()), row.getHours(), row.getNote()
+            });
+            days.add(new WorkLogDayRow(row.getEmployeeId(), row.getTaskId(), projectByTask.get(row.getTaskId()),
+                    row.getWorkDate(), row.getHours(), 1L));
+        }
+        if (!inserts.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                rollupService.recordAll(days);
+            });
+        }
+        result.received += chunk.size();
+        result.inserted += inserts.size();
+    }
+
+    private String validate(WorkLogImportRow row, Map<Long, Long> projectByTask, Set<Long> employees) {
+        if (row.getTaskId() == null || !projectByTask.containsKey(row.getTaskId())) {
+            return "Task not found";
+        }
+        if (row.getEmployeeId() == null || !employees.contains(row.getEmployeeId())) {
+            return "Employee not found";
+        }
+        if (row.getWorkDate() == null) {
+            return "Work date is required";
+        }
+        if (row.getHours() == null || row.getHours().signum() <= 0 || row.getHours().compareTo(MAX_HOURS) > 0) {
+            return "Hours must be between 0 and " + MAX_HOURS;
+        }
+        return null;
+    }
+
+    private static final class Result {
+        private long received;
+        private long inserted;
+        private final List<WorkLogImportError> errors = new ArrayList<>();
+
+        void reject(long row, String reason) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(WorkLogImportError.builder().row(row).reason(reason).build());
+            }
+        }
+    }
+}
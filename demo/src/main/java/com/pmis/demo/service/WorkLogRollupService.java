@@ -0,0 +1,274 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.WorkLogRollup;
+import com.pmis.demo.domain.entity.WorkLogRollupId;
+import com.pmis.demo.domain.enums.RollupGranularity;
+import com.pmis.demo.domain.enums.RollupScope;
+import com.pmis.demo.dto.WorkLogBucketResponse;
+import com.pmis.demo.dto.WorkLogDayRow;
+import com.pmis.demo.dto.WorkLogSummaryResponse;
+import com.pmis.demo.repository.EmployeeRepository;
+import com.pmis.demo.repository.ProjectRepository;
+import com.pmis.demo.repository.TaskRepository;
+import com.pmis.demo.repository.TaskWorkLogRepository;
+import com.pmis.demo.repository.WorkLogRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * Maintains {@code work_log_rollup} so timesheet reports read one row per bucket instead of every work log.
+ * Writes run inside the caller's transaction, keeping the rollup consistent with {@code task_work_log}.
+ * {@link #rebuild} recomputes it from scratch in short transactions, e.g. after deploying the rollup table on
+ * existing data. It is not exposed over HTTP; set {@code pmis.worklog.rollup.rebuild-on-startup} to run it
+ * once the application has started.
+ */
+@Slf4j
+@Service
+public class WorkLogRollupService {
+
+    private static final String UPSERT_SQL =
+            "insert into work_log_rollup (scope, scope_id, granularity, bucket_start, hours, entry_count) " +
+            "values (?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update hours = hours + values(hours), entry_count = entry_count + values(entry_count)";
+    // By primary key, so only the buckets a removal just decremented are looked at
+    private static final String DELETE_EMPTY_SQL =
+            "delete from work_log_rollup where scope = ? and scope_id = ? and granularity = ? and bucket_start = ? " +
+            "and entry_count <= 0";
+
+    private final WorkLogRollupRepository rollupRepository;
+    private final TaskWorkLogRepository workLogRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int chunkSize;
+    private final boolean rebuildOnStartup;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public WorkLogRollupService(WorkLogRollupRepository rollupRepository,
+                                TaskWorkLogRepository workLogRepository,
+                                EmployeeRepository employeeRepository,
+                                TaskRepository taskRepository,
+                                ProjectRepository projectRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${pmis.worklog.rollup.chunk-size:500}") int chunkSize,
+                                @Value("${pmis.worklog.rollup.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.rollupRepository = rollupRepository;
+        this.workLogRepository = workLogRepository;
+        this.employeeRepository = employeeRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Transactional
+    public void record(Long employeeId, Long taskId, Long projectId, LocalDate workDate, BigDecimal hours) {
+        rollupRepository.addToBuckets(employeeId, taskId, projectId,
+                RollupGranularity.DAY.bucketOf(workDate),
+                RollupGranularity.WEEK.bucketOf(workDate),
+                RollupGranularity.MONTH.bucketOf(workDate),
+                hours, 1);
+    }
+
+    // Bulk variant of record: folds the rows into buckets first, then upserts each bucket once
+    @Transactional
+    public void recordAll(List<WorkLogDayRow> days) {
+        apply(accumulate(days).values(), false);
+    }
+
+    // Call before the task is deleted; its work logs go with it through ON DELETE CASCADE
+    @Transactional
+    public void removeTask(Long taskId) {
+        subtract(workLogRepository.sumHoursByDayForTask(taskId));
+    }
+
+    @Transactional
+    public void removeProject(Long projectId) {
+        subtract(workLogRepository.sumHoursByDayForProject(projectId));
+    }
+
+    // Call before the employee is deleted; their work logs go with them through ON DELETE CASCADE
+    @Transactional
+    public void removeEmployee(Long employeeId) {
+        subtract(workLogRepository.sumHoursByDayForEmployee(employeeId));
+    }
+
+    // Call before the department is deleted; it cascades to its employees and their work logs
+    @Transactional
+    public void removeDepartment(Long departmentId) {
+        subtract(workLogRepository.sumHoursByDayForDepartment(departmentId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recomputes every bucket from {@code task_work_log}, one scope at a time in chunks of {@code chunk-size}
+     * employees, tasks or projects. Each chunk deletes and refills its buckets in its own transaction, so no
+     * transaction holds the whole table and concurrent work logs only wait for the chunk they touch. The last
+     * chunk of each scope is open ended, which also clears buckets of rows that no longer exist.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("Work log rollup rebuild is already running");
+        }
+        try {
+            int chunks = rebuild(RollupScope.EMPLOYEE, employeeRepository::findIdsAfter,
+                    workLogRepository::sumHoursByDayForEmployeeRange);
+            chunks += rebuild(RollupScope.TASK, taskRepository::findIdsAfter,
+                    workLogRepository::sumHoursByDayForTaskRange);
+            chunks += rebuild(RollupScope.PROJECT, projectRepository::findIdsAfter,
+                    workLogRepository::sumHoursByDayForProjectRange);
+            log.info("Rebuilt work log rollup in {} chunks", chunks);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public WorkLogSummaryResponse getSummary(RollupScope scope, Long scopeId, RollupGranularity granularity,
+                                             LocalDate from, LocalDate to) {
+        List<WorkLogRollup> rows = from == null && to == null
+                ? rollupRepository.findByScopeAndScopeIdAndGranularityOrderByBucketStart(scope, scopeId, granularity)
+                : rollupRepository.findByScopeAndScopeIdAndGranularityAndBucketStartBetweenOrderByBucketStart(
+                        scope, scopeId, granularity,
+                        from != null ? granularity.bucketOf(from) : LocalDate.of(1970, 1, 1),
+                        to != null ? to : LocalDate.of(9999, 12, 31));
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (WorkLogRollup row : rows) {
+            total = total.add(row.getHours());
+        }
+        return WorkLogSummaryResponse.builder()
+                .scope(scope)
+                .scopeId(scopeId)
+                .granularity(granularity)
+                .totalHours(total)
+                .buckets(rows.stream()
+                        .map(row -> WorkLogBucketResponse.builder()
+                                .bucketStart(row.getBucketStart())
+                                .hours(row.getHours())
+                                .entryCount(row.getEntryCount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private int rebuild(RollupScope scope, BiFunction<Long, Limit, List<Long>> idsAfter,
+                        BiFunction<Long, Long, List<WorkLogDayRow>> sumRange) {
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = idsAfter.apply(afterId, Limit.of(chunkSize));
+            long from = afterId;
+            long lastId = ids.size() < chunkSize ? Long.MAX_VALUE : ids.get(ids.size() - 1);
+            transaction.executeWithoutResult(status -> {
+                rollupRepository.deleteScopeRange(scope, from, lastId);
+                apply(accumulate(sumRange.apply(from, lastId), scope).values(), false);
+            });
+            chunks++;
+            if (lastId == Long.MAX_VALUE) {
+                return chunks;
+            }
+            afterId = lastId;
+        }
+    }
+
+    private void subtract(List<WorkLogDayRow> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        Collection<WorkLogRollup> buckets = accumulate(days).values();
+        apply(buckets, true);
+        List<Object[]> keys = new ArrayList<>(buckets.size());
+        for (WorkLogRollup bucket : buckets) {
+            keys.add(new Object[]{
+                    bucket.getScope().name(), bucket.getScopeId(), bucket.getGranularity().name(),
+                    bucket.getBucketStart()
+            });
+        }
+        jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, keys);
+    }
+
+    private void apply(Collection<WorkLogRollup> buckets, boolean subtract) {
+        List<Object[]> args = new ArrayList<>(buckets.size());
+        for (WorkLogRollup bucket : buckets) {
+            args.add(new Object[]{
+                    bucket.getScope().name(), bucket.getScopeId(), bucket.getGranularity().name(),
+                    bucket.getBucketStart(),
+                    subtract ? bucket.getHours().negate() : bucket.getHours(),
+                    subtract ? -bucket.getEntryCount() : bucket.getEntryCount()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    // Folds per-day rows into every scope/granularity bucket they contribute to
+    private Map<WorkLogRollupId, WorkLogRollup> accumulate(List<WorkLogDayRow> days) {
+        return accumulate(days, RollupScope.values());
+    }
+
+    private Map<WorkLogRollupId, WorkLogRollup> accumulate(List<WorkLogDayRow> days, RollupScope... scopes) {
+        Map<WorkLogRollupId, WorkLogRollup> buckets = new HashMap<>();
+        for (WorkLogDayRow day : days) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDate bucketStart = granularity.bucketOf(day.getWorkDate());
+                for (RollupScope scope : scopes) {
+                    add(buckets, scope, scopeIdOf(scope, day), granularity, bucketStart, day);
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private static Long scopeIdOf(RollupScope scope, WorkLogDayRow day) {
+        return switch (scope) {
+            case EMPLOYEE -> day.getEmployeeId();
+            case TASK -> day.getTaskId();
+            case PROJECT -> day.getProjectId();
+        };
+    }
+
+    private void add(Map<WorkLogRollupId, WorkLogRollup> buckets, RollupScope scope, Long scopeId,
+                     RollupGranularity granularity, LocalDate bucketStart, WorkLogDayRow day) {
+        WorkLogRollup bucket = buckets.computeIfAbsent(
+                new WorkLogRollupId(scope, scopeId, granularity, bucketStart),
+                id -> WorkLogRollup.builder()
+                        .scope(scope)
+                        .scopeId(scopeId)
+                        .granularity(granularity)
+                        .bucketStart(bucketStart)
+                        .hours(BigDecimal.ZERO)
+                        .entryCount(0L)
+                        .build());
+        bucket.setHours(bucket.getHours().add(day.getHours()));
+        bucket.setEntryCount(bucket.getEntryCount() + day.getEntryCount());
+    }
+}
@@ -3,16 +3,17 @@ package com.pmis.demo.service;
 import com.pmis.demo.domain.entity.Employee;
 import com.pmis.demo.domain.entity.Task;
 import com.pmis.demo.domain.entity.TaskWorkLog;
+import com.pmis.demo.dto.CursorPage;
 import com.pmis.demo.dto.TaskWorkLogResponse;
 import com.pmis.demo.repository.EmployeeRepository;
 import com.pmis.demo.repository.TaskRepository;
 import com.pmis.demo.repository.TaskWorkLogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +22,9 @@ public class WorkLogService {
     private final TaskWorkLogRepository workLogRepository;
     private final TaskRepository taskRepository;
     private final EmployeeRepository employeeRepository;
+    private final WorkLogRollupService rollupService;
 
+    @Transactional
     public TaskWorkLog logWork(Long taskId, Long employeeId, LocalDate date, BigDecimal hours, String note) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found"));
@@ -36,13 +39,17 @@ public class WorkLogService {
                 .note(note)
                 .build();
 
-        return workLogRepository.save(log);
+        TaskWorkLog saved = workLogRepository.save(log);
+        rollupService.record(employeeId, taskId, task.getProject().getId(), date, hours);
+        return saved;
     }
 
-    public List<TaskWorkLogResponse> getTaskLogs(Long taskId) {
-        return workLogRepository.findByTaskId(taskId).stream()
-                .map(this::toResponse)
-                .toList();
+    public CursorPage<TaskWorkLogResponse> getTaskLogs(Long taskId, String cursor, Integer limit) {
+        int size = PageCursor.limit(limit);
+        return CursorPage.of(
+                workLogRepository.findByTaskIdAndIdGreaterThanOrderByIdAsc(
+                        taskId, PageCursor.afterId(cursor), PageCursor.fetchLimit(size)),
+                size, this::toResponse, log -> PageCursor.ofId(log.getId()));
     }
 
     private TaskWorkLogResponse toResponse(TaskWorkLog log) {
@@ -0,0 +1,155 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.domain.entity.Employee;
+import com.pmis.demo.domain.entity.WorkLogRollup;
+import com.pmis.demo.dto.DepartmentWorkloadResponse;
+import com.pmis.demo.dto.EmployeeTaskSpanRow;
+import com.pmis.demo.dto.EmployeeWorkloadResponse;
+import com.pmis.demo.repository.DepartmentRepository;
+import com.pmis.demo.repository.EmployeeRepository;
+import com.pmis.demo.repository.TaskAssignmentRepository;
+import com.pmis.demo.repository.WorkLogRollupRepository;
+import com.pmis.demo.service.schedule.DependencyGraph;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per employee and day heatmap of concurrent task assignments and logged hours for a department.
+ * Assignment counts come from one sweep over the sorted start/end events of every employee's task
+ * spans; hours come from the daily employee buckets of {@code work_log_rollup}.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkloadService {
+
+    private static final int MAX_DAYS = 366;
+
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TaskAssignmentRepository assignmentRepository;
+    private final WorkLogRollupRepository rollupRepository;
+
+    @Transactional(readOnly = true)
+    public DepartmentWorkloadResponse getDepartmentWorkload(Long departmentId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("A valid date range is required");
+        }
+        int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        if (days > MAX_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_DAYS + " days");
+        }
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new IllegalArgumentException("Department not found");
+        }
+
+        List<Employee> employees = new ArrayList<>(employeeRepository.findByDepartmentId(departmentId));
+        employees.sort(Comparator.comparing(Employee::getId));
+        Map<Long, Integer> employeeIndex = new HashMap<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            employeeIndex.put(employee.getId(), employeeIndex.size());
+        }
+
+        int[][] concurrent = sweep(assignmentRepository.findSpansByDepartmentId(departmentId, from, to),
+                employeeIndex, employees.size(), (int) from.toEpochDay(), days);
+
+        BigDecimal[][] hours = new BigDecimal[employees.size()][];
+        for (WorkLogRollup bucket : rollupRepository.findEmployeeDaysByDepartmentId(departmentId, from, to)) {
+            Integer index = employeeIndex.get(bucket.getScopeId());
+            if (index == null) {
+                continue;
+            }
+            if (hours[index] == null) {
+                hours[index] = new BigDecimal[days];
+                Arrays.fill(hours[index], BigDecimal.ZERO);
+            }
+            hours[index][(int) (bucket.getBucketStart().toEpochDay() - from.toEpochDay())] = bucket.getHours();
+        }
+
+        List<EmployeeWorkloadResponse> rows = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            rows.add(toResponse(employees.get(i), concurrent[i], hours[i], days));
+        }
+        return DepartmentWorkloadResponse.builder()
+                .departmentId(departmentId)
+                .from(from)
+                .to(to)
+                .employees(rows)
+                .build();
+    }
+
+    /**
+     * Each span becomes a +1 event on its first day and a -1 event after its last day, encoded as
+     * {@code employee << 32 | day << 1 | isStart} so that one sort orders events by employee, then day.
+     * Walking the sorted events with a running count fills every employee's row in a single pass.
+     */
+    static int[][] sweep(List<EmployeeTaskSpanRow> spans, Map<Long, Integer> employeeIndex,
+                         int employeeCount, int origin, int days) {
+        long[] events = new long[spans.size() * 2];
+        int size = 0;
+        for (EmployeeTaskSpanRow span : spans) {
+            Integer index = employeeIndex.get(span.getEmployeeId());
+            if (index == null) {
+                continue;
+            }
+            int start = (int) span.getStartDate().toEpochDay() - origin;
+            int end = start + DependencyGraph.durationOf(span.getStartDate(), span.getEndDate());
+            start = Math.max(0, start);
+            end = Math.min(days, end);
+            if (start >= end) {
+                continue;
+            }
+            events[size++] = ((long) index << 32) | ((long) start << 1) | 1;
+            events[size++] = ((long) index << 32) | ((long) end << 1);
+        }
+        Arrays.sort(events, 0, size);
+
+        int[][] concurrent = new int[employeeCount][days];
+        int running = 0;
+        for (int k = 0; k < size; ) {
+            int employee = (int) (events[k] >>> 32);
+            int day = (int) (events[k] & 0xFFFFFFFFL) >>> 1;
+            while (k < size && events[k] >>> 32 == employee && ((int) (events[k] & 0xFFFFFFFFL) >>> 1) == day) {
+                running += (events[k] & 1) == 1 ? 1 : -1;
+                k++;
+            }
+            // Holds until this employee's next event; the last event of an employee always brings it back to 0
+            int next = k < size && events[k] >>> 32 == employee ? (int) (events[k] & 0xFFFFFFFFL) >>> 1 : day;
+            Arrays.fill(concurrent[employee], day, next, running);
+        }
+        return concurrent;
+    }
+
+    private EmployeeWorkloadResponse toResponse(Employee employee, int[] concurrent, BigDecimal[] hours, int days) {
+        int peak = 0;
+        List<Integer> counts = new ArrayList<>(days);
+        for (int count : concurrent) {
+            peak = Math.max(peak, count);
+            counts.add(count);
+        }
+        BigDecimal total = BigDecimal.ZERO;
+        List<BigDecimal> logged = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            BigDecimal value = hours != null ? hours[day] : BigDecimal.ZERO;
+            total = total.add(value);
+            logged.add(value);
+        }
+        return EmployeeWorkloadResponse.builder()
+                .employeeId(employee.getId())
+                .employeeName(employee.getName())
+                .peakConcurrentTasks(peak)
+                .totalLoggedHours(total)
+                .concurrentTasks(counts)
+                .loggedHours(logged)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.pmis.demo.service.audit;
+
+import com.pmis.demo.domain.enums.AuditAction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** One pending {@code audit_log} row. */
+@Getter
+@RequiredArgsConstructor
+public final class AuditEntry {
+    private final String tableName;
+    private final long recordId;
+    private final AuditAction action;
+    private final Long employeeId;
+    // Null when unknown; the writer then takes it from the task the entry refers to
+    private final Long projectId;
+    private final String oldValue;
+    private final String newValue;
+    private final List<AuditFieldChange> changes;
+    private final LocalDateTime changedAt;
+}
@@ -0,0 +1,179 @@
+package com.pmis.demo.service.audit;
+
+import com.pmis.demo.domain.entity.Task;
+import com.pmis.demo.domain.entity.TaskAssignment;
+import com.pmis.demo.domain.enums.AuditAction;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Replaces the {@code task_after_*} and {@code task_assignment_after_*} triggers: Hibernate calls these
+ * listeners once the transaction has committed, and the entries go to {@link AuditLogWriter} instead of
+ * being inserted inside the user transaction. Each entry carries its changed fields (by column name) for
+ * {@code audit_log_change}, plus the summary text the triggers used to write. Rows removed by database
+ * cascades (assignments of a deleted task) are not seen here; the task's DELETE entry covers them.
+ */
+@Component
+public class AuditEventListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String TASK = "Task";
+    private static final String TASK_ASSIGNMENT = "TaskAssignment";
+    // Task properties the update trigger compared, in its order, and their column names
+    private static final String[] TRACKED = {"name", "status", "priority", "startDate", "endDate"};
+    private static final String[] TRACKED_COLUMNS = {"name", "status", "priority", "start_date", "end_date"};
+    private static final String[] ASSIGNMENT_COLUMNS = {"task_id", "employee_id", "role_id"};
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter writer;
+
+    public AuditEventListener(EntityManagerFactory entityManagerFactory, AuditLogWriter writer) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.writer = writer;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Task.class || type == TaskAssignment.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            Object[] values = tracked(event.getPersister(), event.getState());
+            submit(TASK, task, AuditAction.INSERT, null, summary(values), changes(TRACKED_COLUMNS, null, values));
+        } else if (event.getEntity() instanceof TaskAssignment assignment) {
+            Object[] values = ids(assignment);
+            submit(TASK_ASSIGNMENT, assignment, AuditAction.INSERT, null, summary(assignment),
+                    changes(ASSIGNMENT_COLUMNS, null, values));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Task task) || event.getOldState() == null) {
+            return;
+        }
+        Object[] before = tracked(event.getPersister(), event.getOldState());
+        Object[] after = tracked(event.getPersister(), event.getState());
+        List<AuditFieldChange> changes = changes(TRACKED_COLUMNS, before, after);
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        for (AuditFieldChange change : changes) {
+            text.append(change.getFieldName()).append(": ").append(text(change.getOldValue()))
+                    .append(" -> ").append(text(change.getNewValue())).append("; ");
+        }
+        submit(TASK, task, AuditAction.UPDATE, summary(before), text.toString(), changes);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            Object[] values = tracked(event.getPersister(), event.getDeletedState());
+            submit(TASK, task, AuditAction.DELETE, summary(values), null, changes(TRACKED_COLUMNS, values, null));
+        } else if (event.getEntity() instanceof TaskAssignment assignment) {
+            Object[] values = ids(assignment);
+            submit(TASK_ASSIGNMENT, assignment, AuditAction.DELETE, summary(assignment), null,
+                    changes(ASSIGNMENT_COLUMNS, values, null));
+        }
+    }
+
+    // Rolled back changes are not audited
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void submit(String table, Task task, AuditAction action, String oldValue, String newValue,
+                        List<AuditFieldChange> changes) {
+        // getId() on the lazy project proxy does not load the project
+        Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+        writer.submit(new AuditEntry(table, task.getId(), action, null, projectId, oldValue, newValue, changes,
+                LocalDateTime.now()));
+    }
+
+    private void submit(String table, TaskAssignment assignment, AuditAction action, String oldValue,
+                        String newValue, List<AuditFieldChange> changes) {
+        writer.submit(new AuditEntry(table, assignment.getTask().getId(), action, assignment.getEmployee().getId(),
+                null, oldValue, newValue, changes, LocalDateTime.now()));
+    }
+
+    private static Object[] tracked(EntityPersister persister, Object[] state) {
+        List<String> properties = Arrays.asList(persister.getPropertyNames());
+        Object[] values = new Object[TRACKED.length];
+        for (int k = 0; k < TRACKED.length; k++) {
+            values[k] = state[properties.indexOf(TRACKED[k])];
+        }
+        return values;
+    }
+
+    private static Object[] ids(TaskAssignment assignment) {
+        return new Object[]{assignment.getTask().getId(), assignment.getEmployee().getId(), assignment.getRole().getId()};
+    }
+
+    /** Fields whose value differs between the two snapshots; a null snapshot means "did not exist". */
+    private static List<AuditFieldChange> changes(String[] columns, Object[] before, Object[] after) {
+        List<AuditFieldChange> changes = new ArrayList<>();
+        for (int k = 0; k < columns.length; k++) {
+            Object old = before != null ? before[k] : null;
+            Object now = after != null ? after[k] : null;
+            if (!Objects.equals(old, now)) {
+                changes.add(new AuditFieldChange(columns[k], value(old), value(now)));
+            }
+        }
+        return changes;
+    }
+
+    private static String summary(Object[] task) {
+        return "name=" + text(task[0]) + ", status=" + text(task[1]) + ", priority=" + text(task[2]);
+    }
+
+    private static String summary(TaskAssignment assignment) {
+        return "task_id=" + assignment.getTask().getId() + ", employee_id=" + assignment.getEmployee().getId()
+                + ", role_id=" + assignment.getRole().getId();
+    }
+
+    private static String value(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "NULL";
+    }
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.service.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** One field of an audit entry; {@code null} stands for "no value" (SQL NULL or not applicable). */
+@Getter
+@RequiredArgsConstructor
+public final class AuditFieldChange {
+    private final String fieldName;
+    private final String oldValue;
+    private final String newValue;
+}
@@ -0,0 +1,287 @@
+package com.pmis.demo.service.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes audit entries to {@code audit_log} outside the user transactions that produced them.
+ * In the queued modes a single background thread drains a bounded queue and inserts up to
+ * {@code batchSize} rows per JDBC batch, followed by one batch of their {@code audit_log_change} rows.
+ * A failed batch is retried row by row so one bad row (e.g. an employee deleted in the meantime)
+ * does not lose the others.
+ * <p>
+ * {@link #submit} is called from Hibernate's post-commit callback, while the committed transaction is still
+ * bound to the thread. Entries written on that thread (SYNC mode, or an ASYNC overflow) therefore go through
+ * a REQUIRES_NEW transaction: Spring suspends the finished one and the insert runs on a separate pooled
+ * connection, never on the connection that just committed. Such a thread briefly holds two connections,
+ * which the pool size has to allow for.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    // Task and assignment entries both use the task id as record_id, so a missing project comes from the task
+    private static final String INSERT_SQL =
+            "insert into audit_log (table_name, record_id, action, employee_id, project_id, old_value, new_value, changed_at) " +
+            "values (?, ?, ?, ?, coalesce(?, (select t.project_id from task t where t.id = ?)), ?, ?, ?)";
+    private static final String INSERT_CHANGE_SQL =
+            "insert into audit_log_change (audit_log_id, field_name, old_value, new_value) values (?, ?, ?, ?)";
+    private static final int MAX_CHANGE_VALUE = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditMode mode;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<AuditEntry> queue;
+    // Submitted but not yet written (or given up on)
+    private final AtomicLong pending = new AtomicLong();
+    // Entries written by the committing thread because the queue stayed full
+    private final AtomicLong overflowed = new AtomicLong();
+    // Entries that could not be written at all
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object drained = new Object();
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${pmis.audit.mode:ASYNC}") AuditMode mode,
+                          @Value("${pmis.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${pmis.audit.batch-size:500}") int batchSize,
+                          @Value("${pmis.audit.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = Math.max(0, offerTimeoutMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (mode == AuditMode.SYNC) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drain, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // Whatever the worker left behind
+        List<AuditEntry> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+
+    public void submit(AuditEntry entry) {
+        pending.incrementAndGet();
+        switch (mode) {
+            case SYNC -> write(List.of(entry));
+            case BLOCKING -> {
+                try {
+                    queue.put(entry);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    write(List.of(entry));
+                }
+            }
+            case ASYNC -> {
+                boolean queued;
+                try {
+                    queued = queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    queued = false;
+                }
+                if (!queued) {
+                    long count = overflowed.incrementAndGet();
+                    // Once per thousand so a sustained overload does not flood the log as well
+                    if (count % 1000 == 1) {
+                        log.warn("Audit queue full, {} entries written synchronously so far", count);
+                    }
+                    write(List.of(entry));
+                }
+            }
+        }
+    }
+
+    /** Waits until every submitted entry has been written; returns false on timeout. */
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (drained) {
+            while (pending.get() > 0) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(drained, left);
+            }
+        }
+        return true;
+    }
+
+    public long getOverflowed() {
+        return overflowed.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    private void drain() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Audit writer failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEntry> entries) {
+        try {
+            // One transaction per batch, so a failure leaves nothing behind for the row-by-row retry to duplicate
+            transactionTemplate.executeWithoutResult(status -> insert(entries, true));
+        } catch (DataAccessException batchFailure) {
+            for (AuditEntry entry : entries) {
+                writeOne(entry);
+            }
+        } finally {
+            done(entries.size());
+        }
+    }
+
+    private void writeOne(AuditEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(entry), true));
+        } catch (DataAccessException ex) {
+            try {
+                // The employee may have been deleted before the entry was written
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(entry), false));
+            } catch (DataAccessException retry) {
+                dropped.incrementAndGet();
+                log.error("Dropping audit entry for {} {}", entry.getTableName(), entry.getRecordId(), retry);
+            }
+        }
+    }
+
+    /** Inserts the entries as one batch, then their field changes as a second batch keyed by the generated ids. */
+    private void insert(List<AuditEntry> entries, boolean withEmployee) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            long[] ids = new long[entries.size()];
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (AuditEntry entry : entries) {
+                    bind(ps, entry, withEmployee);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < ids.length; i++) {
+                        if (!keys.next()) {
+                            throw new SQLException("Missing generated key for audit entry " + i);
+                        }
+                        ids[i] = keys.getLong(1);
+                    }
+                }
+            }
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CHANGE_SQL)) {
+                int rows = 0;
+                for (int i = 0; i < ids.length; i++) {
+                    for (AuditFieldChange change : entries.get(i).getChanges()) {
+                        ps.setLong(1, ids[i]);
+                        ps.setString(2, change.getFieldName());
+                        ps.setString(3, truncate(change.getOldValue()));
+                        ps.setString(4, truncate(change.getNewValue()));
+                        ps.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    ps.executeBatch();
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void bind(PreparedStatement ps, AuditEntry entry, boolean withEmployee) throws SQLException {
+        ps.setString(1, entry.getTableName());
+        ps.setLong(2, entry.getRecordId());
+        ps.setString(3, entry.getAction().name());
+        if (withEmployee && entry.getEmployeeId() != null) {
+            ps.setLong(4, entry.getEmployeeId());
+        } else {
+            ps.setNull(4, Types.BIGINT);
+        }
+        if (entry.getProjectId() != null) {
+            ps.setLong(5, entry.getProjectId());
+        } else {
+            ps.setNull(5, Types.BIGINT);
+        }
+        ps.setLong(6, entry.getRecordId());
+        ps.setString(7, entry.getOldValue());
+        ps.setString(8, entry.getNewValue());
+        ps.setTimestamp(9, Timestamp.valueOf(entry.getChangedAt()));
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_CHANGE_VALUE ? value.substring(0, MAX_CHANGE_VALUE) : value;
+    }
+
+    private void done(int count) {
+        if (pending.addAndGet(-count) <= 0) {
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.pmis.demo.service.audit;
+
+/**
+ * How committed changes reach {@code audit_log}.
+ */
+public enum AuditMode {
+    // Queued and written in batches; when the queue stays full the committing thread writes the entry itself
+    ASYNC,
+    // Queued and written in batches; a full queue makes the committing thread wait
+    BLOCKING,
+    // Written by the committing thread right after commit
+    SYNC
+}
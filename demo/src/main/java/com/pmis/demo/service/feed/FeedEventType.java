@@ -0,0 +1,9 @@
+package com.pmis.demo.service.feed;
+
+/** SSE event names of the project feed. */
+public enum FeedEventType {
+    TASK_STATUS,
+    COMMENT_ADDED,
+    RISK_STATUS,
+    MILESTONE_COMPLETED
+}
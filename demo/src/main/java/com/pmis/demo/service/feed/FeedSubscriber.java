@@ -0,0 +1,128 @@
+package com.pmis.demo.service.feed;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open feed connection. Frames wait in a bounded buffer and the oldest is dropped when it is full, so a
+ * slow client costs at most {@code capacity} frames of memory and never holds up the publisher. At most one
+ * drain runs per subscriber at a time, on the shared sender pool. A send that blocks on a stalled client is
+ * visible through {@link #sendingSince()} so the service can evict it and free the sender thread.
+ */
+final class FeedSubscriber {
+
+    final Long projectId;
+    final SseEmitter emitter;
+    private final int capacity;
+    private final ArrayDeque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    // Thread blocked in emitter.send and since when, guarded by this; null and 0 between sends
+    private Thread sender;
+    private long sendStartedAt;
+
+    FeedSubscriber(Long projectId, SseEmitter emitter, int capacity) {
+        this.projectId = projectId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    /** Queues a frame; returns true when the caller must schedule {@link #drain()}. */
+    boolean offer(Set<DataWithMediaType> frame) {
+        if (closed) {
+            return false;
+        }
+        synchronized (buffer) {
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(frame);
+        }
+        return draining.compareAndSet(false, true);
+    }
+
+    // Heartbeats only go to idle connections; a busy one is already proving it is alive
+    boolean offerIfIdle(Set<DataWithMediaType> frame) {
+        synchronized (buffer) {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+        }
+        return offer(frame);
+    }
+
+    /** Sends until the buffer is empty; returns false when the connection is gone. */
+    boolean drain() {
+        while (true) {
+            Set<DataWithMediaType> frame;
+            synchronized (buffer) {
+                frame = buffer.pollFirst();
+            }
+            if (frame == null) {
+                draining.set(false);
+                // A frame offered after the poll but before the reset found draining still set
+                synchronized (buffer) {
+                    if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return true;
+                    }
+                }
+                continue;
+            }
+            if (closed) {
+                draining.set(false);
+                return false;
+            }
+            startSend();
+            try {
+                emitter.send(frame);
+            } catch (Exception e) {
+                close();
+                emitter.completeWithError(e);
+                return false;
+            } finally {
+                endSend();
+            }
+        }
+    }
+
+    /** Start of the send in progress in nanoseconds ({@link System#nanoTime()}), or 0 when none is. */
+    synchronized long sendingSince() {
+        return sendStartedAt;
+    }
+
+    /**
+     * Closes a subscriber whose send has been in progress since {@code startedAt}, interrupting the blocked
+     * sender; returns false when that send has already finished.
+     */
+    synchronized boolean abortSend(long startedAt) {
+        if (sender == null || sendStartedAt != startedAt) {
+            return false;
+        }
+        close();
+        sender.interrupt();
+        return true;
+    }
+
+    private synchronized void startSend() {
+        sender = Thread.currentThread();
+        sendStartedAt = Math.max(1, System.nanoTime());
+    }
+
+    private synchronized void endSend() {
+        sender = null;
+        sendStartedAt = 0;
+        // An abort that raced with the end of the send must not leak into the pool's next task
+        Thread.interrupted();
+    }
+
+    void close() {
+        closed = true;
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+}
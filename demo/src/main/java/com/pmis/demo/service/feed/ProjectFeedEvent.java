@@ -0,0 +1,16 @@
+package com.pmis.demo.service.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published by services when something a project dashboard shows has changed; delivered to feed subscribers
+ * once the publishing transaction commits. {@code data} is the response DTO of the changed row.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class ProjectFeedEvent {
+    private final FeedEventType type;
+    private final Long projectId;
+    private final Object data;
+}
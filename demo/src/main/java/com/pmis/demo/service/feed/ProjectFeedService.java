@@ -0,0 +1,194 @@
+package com.pmis.demo.service.feed;
+
+import com.pmis.demo.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-sent events per project, replacing dashboard polling. Services publish {@link ProjectFeedEvent}s and
+ * they fan out after commit (or right away outside a transaction); rolled back changes are never sent. Each
+ * event is serialized once and queued on every subscriber of its project, and a small shared pool writes the
+ * queues out, so idle connections cost a buffer and no thread. A client that stops reading would block its
+ * sender thread, so a send still in progress after {@code pmis.feed.write-timeout-ms} evicts the subscriber.
+ * Event ids count up per project for as long as the application runs, whether or not anyone is subscribed; a
+ * gap tells the client frames were dropped and it should reload.
+ */
+@Slf4j
+@Service
+public class ProjectFeedService {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final ExecutorService senders;
+    // Dropped with the last subscriber, so projects nobody watches hold no subscriber state
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    // Id of the last event per project; outlives the channel so a resubscribing client never sees ids go back
+    private final Map<Long, AtomicLong> lastIds = new ConcurrentHashMap<>();
+
+    public ProjectFeedService(ProjectRepository projectRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${pmis.feed.buffer-size:64}") int bufferSize,
+                              @Value("${pmis.feed.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${pmis.feed.write-timeout-ms:10000}") long writeTimeoutMillis,
+                              @Value("${pmis.feed.sender-threads:4}") int senderThreads) {
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "project-feed-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        FeedSubscriber subscriber = new FeedSubscriber(projectId, emitter, bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+        channels.compute(projectId, (id, channel) -> {
+            Channel next = channel != null ? channel : new Channel();
+            next.subscribers.add(subscriber);
+            return next;
+        });
+        // Commits the response headers so the client sees the stream open before the first event
+        enqueue(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ProjectFeedEvent event) {
+        AtomicLong lastId = lastIds.computeIfAbsent(event.getProjectId(), id -> new AtomicLong());
+        Channel channel = channels.get(event.getProjectId());
+        if (channel == null) {
+            lastId.incrementAndGet();
+            return;
+        }
+        String data = objectMapper.writeValueAsString(event.getData());
+        // Assigning the id and queueing in one step keeps concurrent publishers from queueing ids out of order
+        synchronized (channel) {
+            Set<DataWithMediaType> frame = SseEmitter.event()
+                    .id(Long.toString(lastId.incrementAndGet()))
+                    .name(event.getType().name())
+                    .data(data, MediaType.TEXT_PLAIN)
+                    .build();
+            for (FeedSubscriber subscriber : channel.subscribers) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    // Keeps proxies and load balancers from closing idle streams, and finds clients that went away
+    @Scheduled(fixedDelayString = "${pmis.feed.heartbeat-ms:20000}")
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (FeedSubscriber subscriber : channel.subscribers) {
+                if (subscriber.offerIfIdle(HEARTBEAT)) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    // Frees sender threads blocked on clients that stopped reading; the emitter error closes the connection
+    @Scheduled(fixedDelayString = "${pmis.feed.stall-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            for (FeedSubscriber subscriber : channel.subscribers) {
+                long since = subscriber.sendingSince();
+                if (since != 0 && now - since > writeTimeoutNanos && subscriber.abortSend(since)) {
+                    log.warn("Evicting feed subscriber of project {}: send blocked for over {} ms",
+                            subscriber.projectId, TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+                    unsubscribe(subscriber);
+                    subscriber.emitter.completeWithError(new IOException("Feed write timed out"));
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount(Long projectId) {
+        Channel channel = channels.get(projectId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        for (Channel channel : channels.values()) {
+            for (FeedSubscriber subscriber : channel.subscribers) {
+                subscriber.close();
+                subscriber.emitter.complete();
+            }
+        }
+        channels.clear();
+    }
+
+    private void enqueue(FeedSubscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.offer(frame)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(FeedSubscriber subscriber) {
+        try {
+            senders.execute(() -> {
+                if (!subscriber.drain()) {
+                    unsubscribe(subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            subscriber.close();
+        }
+    }
+
+    private void unsubscribe(FeedSubscriber subscriber) {
+        subscriber.close();
+        channels.computeIfPresent(subscriber.projectId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    // Subscribers of one project; publishing to them is serialized on the channel
+    private static final class Channel {
+        private final List<FeedSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    }
+}
@@ -0,0 +1,201 @@
+package com.pmis.demo.service.resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Usage of one resource over time. Dated allocations occupy their task's inclusive
+ * {@code startDate..endDate}; undated ones form a baseline that applies to every day.
+ * Usage is constant between consecutive allocation boundaries, so it is kept per segment rather than per
+ * day: size depends on the number of allocations, not on how far apart their dates are. A sparse table of
+ * range maxima over the segments answers the peak usage (and hence availability) of any date range with
+ * two binary searches and an O(1) lookup. Days are epoch days.
+ */
+public final class ResourceTimeline {
+
+    private final int capacity;
+    private final int baseline;
+    // Segment i covers days bounds[i] .. bounds[i + 1] - 1; outside bounds only the baseline applies
+    private final int[] bounds;
+    private final int[] usage;
+    // peak[k][i]: max usage over segments i .. i + 2^k - 1
+    private final int[][] peak;
+
+    private ResourceTimeline(int capacity, int baseline, int[] bounds, int[] usage) {
+        this.capacity = capacity;
+        this.baseline = baseline;
+        this.bounds = bounds;
+        this.usage = usage;
+
+        int levels = 1;
+        while ((1 << levels) <= usage.length) {
+            levels++;
+        }
+        this.peak = new int[levels][];
+        peak[0] = usage;
+        for (int k = 1; k < levels; k++) {
+            int half = 1 << (k - 1);
+            int[] prev = peak[k - 1];
+            int[] next = new int[Math.max(0, usage.length - (1 << k) + 1)];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = Math.max(prev[i], prev[i + half]);
+            }
+            peak[k] = next;
+        }
+    }
+
+    /**
+     * @param start inclusive start day per allocation, or {@code Integer.MIN_VALUE} when undated
+     * @param end   inclusive end day per allocation
+     */
+    public static ResourceTimeline build(int capacity, int[] start, int[] end, int[] amount) {
+        int baseline = 0;
+        int[] points = new int[2 * amount.length];
+        int count = 0;
+        for (int i = 0; i < amount.length; i++) {
+            if (start[i] == Integer.MIN_VALUE) {
+                baseline += amount[i];
+            } else {
+                points[count++] = start[i];
+                points[count++] = end[i] + 1;
+            }
+        }
+        if (count == 0) {
+            return new ResourceTimeline(capacity, baseline, new int[0], new int[0]);
+        }
+        Arrays.sort(points, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (points[i] != points[distinct - 1]) {
+                points[distinct++] = points[i];
+            }
+        }
+        int[] bounds = Arrays.copyOf(points, distinct);
+
+        int[] delta = new int[distinct];
+        for (int i = 0; i < amount.length; i++) {
+            if (start[i] != Integer.MIN_VALUE) {
+                delta[Arrays.binarySearch(bounds, start[i])] += amount[i];
+                delta[Arrays.binarySearch(bounds, end[i] + 1)] -= amount[i];
+            }
+        }
+        // The last bound only closes the final segment
+        int[] usage = new int[distinct - 1];
+        int running = baseline;
+        for (int s = 0; s < usage.length; s++) {
+            running += delta[s];
+            usage[s] = running;
+        }
+        return new ResourceTimeline(capacity, baseline, bounds, usage);
+    }
+
+    /**
+     * A copy with {@code amount} more usage on {@code start..end}, or on every day when {@code start} is
+     * {@code Integer.MIN_VALUE}; a negative amount takes usage away. Linear in the number of segments.
+     */
+    public ResourceTimeline with(int start, int end, int amount) {
+        if (start == Integer.MIN_VALUE) {
+            int[] shifted = usage.clone();
+            for (int s = 0; s < shifted.length; s++) {
+                shifted[s] += amount;
+            }
+            return new ResourceTimeline(capacity, baseline + amount, bounds, shifted);
+        }
+        int[] merged = new int[bounds.length + 2];
+        int count = 0;
+        int i = 0;
+        for (int point : new int[]{start, end + 1}) {
+            while (i < bounds.length && bounds[i] < point) {
+                merged[count++] = bounds[i++];
+            }
+            if (i >= bounds.length || bounds[i] != point) {
+                merged[count++] = point;
+            }
+        }
+        while (i < bounds.length) {
+            merged[count++] = bounds[i++];
+        }
+        int[] newBounds = Arrays.copyOf(merged, count);
+        int[] newUsage = new int[count - 1];
+        for (int s = 0; s < newUsage.length; s++) {
+            int day = newBounds[s];
+            newUsage[s] = usageOn(day) + (day >= start && day <= end ? amount : 0);
+        }
+        return new ResourceTimeline(capacity, baseline, newBounds, newUsage);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int usageOn(int day) {
+        int s = segmentOf(day);
+        return s >= 0 && s < usage.length ? usage[s] : baseline;
+    }
+
+    /** Highest usage on any day of {@code from..to}, both inclusive. */
+    public int peakUsage(int from, int to) {
+        if (to < from) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        int lo = segmentOf(from);
+        int hi = segmentOf(to);
+        // Days outside the dated span carry only the baseline
+        int result = lo < 0 || hi >= usage.length ? baseline : Integer.MIN_VALUE;
+        lo = Math.max(lo, 0);
+        hi = Math.min(hi, usage.length - 1);
+        if (lo <= hi) {
+            result = Math.max(result, peak(lo, hi));
+        }
+        return result;
+    }
+
+    /** Quantity free on every day of {@code from..to}; negative when the range is overallocated. */
+    public int available(int from, int to) {
+        return capacity - peakUsage(from, to);
+    }
+
+    /**
+     * Maximal runs of consecutive days whose usage exceeds capacity, as {@code [from, to, peak]}.
+     * When the undated baseline alone exceeds capacity every day is overallocated, which is reported
+     * as a single run from {@code Integer.MIN_VALUE} to {@code Integer.MAX_VALUE}.
+     */
+    public List<int[]> overallocations() {
+        List<int[]> runs = new ArrayList<>();
+        if (baseline > capacity) {
+            runs.add(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, Math.max(baseline, peakOrBaseline())});
+            return runs;
+        }
+        int s = 0;
+        while (s < usage.length) {
+            if (usage[s] <= capacity) {
+                s++;
+                continue;
+            }
+            int runStart = s;
+            int runPeak = usage[s];
+            while (s < usage.length && usage[s] > capacity) {
+                runPeak = Math.max(runPeak, usage[s]);
+                s++;
+            }
+            runs.add(new int[]{bounds[runStart], bounds[s] - 1, runPeak});
+        }
+        return runs;
+    }
+
+    /** Index of the segment holding {@code day}: -1 before the first bound, {@code usage.length} after the last. */
+    private int segmentOf(int day) {
+        int i = Arrays.binarySearch(bounds, day);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    private int peakOrBaseline() {
+        return usage.length == 0 ? baseline : Math.max(baseline, peak(0, usage.length - 1));
+    }
+
+    private int peak(int lo, int hi) {
+        int k = 31 - Integer.numberOfLeadingZeros(hi - lo + 1);
+        return Math.max(peak[k][lo], peak[k][hi - (1 << k) + 1]);
+    }
+}
@@ -0,0 +1,142 @@
+package com.pmis.demo.service.schedule;
+
+/**
+ * Early/late dates of every task of a {@link DependencyGraph}.
+ * Finishes are exclusive epoch days (start + duration); callers subtract one day
+ * when reporting them next to the inclusive {@code Task.endDate}.
+ */
+public final class CriticalPathSchedule {
+
+    private final DependencyGraph graph;
+    private final int[] earlyStart;
+    private final int[] earlyFinish;
+    private final int[] lateStart;
+    private final int[] lateFinish;
+    private final int projectStart;
+    private final int projectFinish;
+
+    private CriticalPathSchedule(DependencyGraph graph, int[] earlyStart, int[] earlyFinish,
+                                 int[] lateStart, int[] lateFinish) {
+        this.graph = graph;
+        this.earlyStart = earlyStart;
+        this.earlyFinish = earlyFinish;
+        this.lateStart = lateStart;
+        this.lateFinish = lateFinish;
+
+        int start = Integer.MAX_VALUE;
+        int finish = Integer.MIN_VALUE;
+        for (int i = 0; i < earlyStart.length; i++) {
+            start = Math.min(start, earlyStart[i]);
+            finish = Math.max(finish, earlyFinish[i]);
+        }
+        this.projectStart = start;
+        this.projectFinish = finish;
+    }
+
+    public static CriticalPathSchedule compute(DependencyGraph graph) {
+        int n = graph.size();
+        int[] duration = graph.durations();
+        int[] es = new int[n];
+        int[] ef = new int[n];
+        int[] ls = new int[n];
+        int[] lf = new int[n];
+        int finish = forwardPass(graph, duration, es, ef);
+        backwardPass(graph, duration, finish, ls, lf);
+        return new CriticalPathSchedule(graph, es, ef, ls, lf);
+    }
+
+    static CriticalPathSchedule of(DependencyGraph graph, int[] es, int[] ef, int[] ls, int[] lf) {
+        return new CriticalPathSchedule(graph, es, ef, ls, lf);
+    }
+
+    /**
+     * Computes early dates in topological order and returns the project finish.
+     * The planned start of a task acts as a "start no earlier than" constraint.
+     */
+    public static int forwardPass(DependencyGraph graph, int[] duration, int[] es, int[] ef) {
+        int finish = Integer.MIN_VALUE;
+        for (int k = 0; k < graph.size(); k++) {
+            int v = graph.topoOrder(k);
+            int start = earliestStart(graph, duration, es, ef, v);
+            es[v] = start;
+            ef[v] = start + duration[v];
+            finish = Math.max(finish, ef[v]);
+        }
+        return finish;
+    }
+
+    public static void backwardPass(DependencyGraph graph, int[] duration, int projectFinish, int[] ls, int[] lf) {
+        for (int k = graph.size() - 1; k >= 0; k--) {
+            int u = graph.topoOrder(k);
+            int finish = projectFinish;
+            for (int p = graph.successorsFrom(u); p < graph.successorsTo(u); p++) {
+                int e = graph.successorEdge(p);
+                int w = graph.edgeTo(e);
+                int lag = graph.edgeLag(e);
+                int bound = switch (graph.edgeType(e)) {
+                    case DependencyGraph.SS -> ls[w] - lag + duration[u];
+                    case DependencyGraph.FF -> lf[w] - lag;
+                    case DependencyGraph.SF -> lf[w] - lag + duration[u];
+                    default -> ls[w] - lag;
+                };
+                finish = Math.min(finish, bound);
+            }
+            lf[u] = finish;
+            ls[u] = finish - duration[u];
+        }
+    }
+
+    /** Earliest start of {@code v} given the already computed early dates of its predecessors. */
+    public static int earliestStart(DependencyGraph graph, int[] duration, int[] es, int[] ef, int v) {
+        int start = graph.plannedStart(v);
+        for (int p = graph.predecessorsFrom(v); p < graph.predecessorsTo(v); p++) {
+            int e = graph.predecessorEdge(p);
+            int u = graph.edgeFrom(e);
+            int lag = graph.edgeLag(e);
+            int bound = switch (graph.edgeType(e)) {
+                case DependencyGraph.SS -> es[u] + lag;
+                case DependencyGraph.FF -> ef[u] + lag - duration[v];
+                case DependencyGraph.SF -> es[u] + lag - duration[v];
+                default -> ef[u] + lag;
+            };
+            start = Math.max(start, bound);
+        }
+        return start;
+    }
+
+    public DependencyGraph graph() {
+        return graph;
+    }
+
+    public int earlyStart(int index) {
+        return earlyStart[index];
+    }
+
+    public int earlyFinish(int index) {
+        return earlyFinish[index];
+    }
+
+    public int lateStart(int index) {
+        return lateStart[index];
+    }
+
+    public int lateFinish(int index) {
+        return lateFinish[index];
+    }
+
+    public int totalFloat(int index) {
+        return lateStart[index] - earlyStart[index];
+    }
+
+    public boolean isCritical(int index) {
+        return totalFloat(index) <= 0;
+    }
+
+    public int projectStart() {
+        return projectStart;
+    }
+
+    public int projectFinish() {
+        return projectFinish;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Cycle checks against a cached {@link DependencyGraph}.
+ * Topological ranks strictly increase along edges, so a search for {@code to} never
+ * needs to enter a task ranked after it; most negative answers are O(1).
+ */
+public final class CycleDetector {
+
+    private CycleDetector() {
+    }
+
+    /** True when {@code to} is reachable from {@code from} by following successors. */
+    public static boolean reaches(DependencyGraph graph, int from, int to) {
+        if (from == to) {
+            return true;
+        }
+        int limit = graph.topoRank(to);
+        if (graph.topoRank(from) > limit) {
+            return false;
+        }
+        long[] visited = new long[(graph.size() + 63) >>> 6];
+        int[] stack = new int[16];
+        int sp = 0;
+        stack[sp++] = from;
+        visited[from >>> 6] |= 1L << from;
+        while (sp > 0) {
+            int u = stack[--sp];
+            for (int p = graph.successorsFrom(u); p < graph.successorsTo(u); p++) {
+                int w = graph.edgeTo(graph.successorEdge(p));
+                if (w == to) {
+                    return true;
+                }
+                if (graph.topoRank(w) > limit || (visited[w >>> 6] & (1L << w)) != 0) {
+                    continue;
+                }
+                visited[w >>> 6] |= 1L << w;
+                if (sp == stack.length) {
+                    stack = Arrays.copyOf(stack, sp * 2);
+                }
+                stack[sp++] = w;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a batch of new edges at once: an edge closes a cycle exactly when both
+     * ends fall into the same strongly connected component of the graph plus all new edges.
+     */
+    public static boolean[] closesCycle(DependencyGraph graph, int[] from, int[] to) {
+        int n = graph.size();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = graph.successorsTo(v) - graph.successorsFrom(v);
+        }
+        for (int u : from) {
+            offsets[u + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = new int[offsets[n]];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int v = 0; v < n; v++) {
+            for (int p = graph.successorsFrom(v); p < graph.successorsTo(v); p++) {
+                targets[cursor[v]++] = graph.edgeTo(graph.successorEdge(p));
+            }
+        }
+        for (int i = 0; i < from.length; i++) {
+            targets[cursor[from[i]]++] = to[i];
+        }
+
+        int[] component = components(n, offsets, targets);
+        boolean[] result = new boolean[from.length];
+        for (int i = 0; i < from.length; i++) {
+            result[i] = from[i] == to[i] || component[from[i]] == component[to[i]];
+        }
+        return result;
+    }
+
+    // Iterative Tarjan; recursion would overflow on long dependency chains
+    private static int[] components(int n, int[] offsets, int[] targets) {
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] component = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callNode = new int[n];
+        int[] callEdge = new int[n];
+        Arrays.fill(index, -1);
+        int counter = 0;
+        int components = 0;
+        int sp = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] != -1) {
+                continue;
+            }
+            int cp = 0;
+            index[s] = low[s] = counter++;
+            stack[sp++] = s;
+            onStack[s] = true;
+            callNode[cp] = s;
+            callEdge[cp++] = offsets[s];
+            while (cp > 0) {
+                int v = callNode[cp - 1];
+                if (callEdge[cp - 1] < offsets[v + 1]) {
+                    int w = targets[callEdge[cp - 1]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        callNode[cp] = w;
+                        callEdge[cp++] = offsets[w];
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--sp];
+                        onStack[w] = false;
+                        component[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+                cp--;
+                if (cp > 0) {
+                    int parent = callNode[cp - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return component;
+    }
+}
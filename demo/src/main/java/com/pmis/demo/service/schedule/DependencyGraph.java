@@ -0,0 +1,523 @@
+package com.pmis.demo.service.schedule;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.TaskDependencyEdge;
+import com.pmis.demo.dto.TaskScheduleRow;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Task dependency graph of a single project.
+ * Tasks are addressed by dense indexes (sorted by task id) and each task's edges occupy a contiguous range
+ * of a flat array in both directions, so passes over the graph never allocate.
+ * Dates are epoch days; durations are whole days (at least 1).
+ * Graphs handed to callers are never modified. {@link IncrementalSchedule} edits its own private copy in
+ * place through the package-private {@code put}/{@code remove}/{@code set} methods and publishes
+ * {@link #copy()}s of it; task indexes stay stable across edits.
+ */
+public final class DependencyGraph {
+
+    // Same order as DependencyType, so encode/decode are plain ordinal lookups.
+    public static final byte FS = 0;
+    public static final byte SS = 1;
+    public static final byte FF = 2;
+    public static final byte SF = 3;
+
+    private static final DependencyType[] TYPES = DependencyType.values();
+
+    private final long[] taskIds;
+    private final int[] plannedStart;
+    private final int[] duration;
+
+    // Edge ids are 0 .. edgeCount - 1; the arrays may have spare capacity
+    private int edgeCount;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private byte[] edgeType;
+    private int[] edgeLag;
+
+    private final Adjacency successors;
+    private final Adjacency predecessors;
+
+    private final int[] topoOrder;
+    private final int[] topoRank;
+
+    // Scratch for re-ranking after an edge insert, allocated on the first one
+    private int[] visitMark;
+    private int visit;
+
+    DependencyGraph(long[] taskIds, int[] plannedStart, int[] duration,
+                    int[] edgeFrom, int[] edgeTo, byte[] edgeType, int[] edgeLag) {
+        this.taskIds = taskIds;
+        this.plannedStart = plannedStart;
+        this.duration = duration;
+        this.edgeCount = edgeFrom.length;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeType = edgeType;
+        this.edgeLag = edgeLag;
+
+        int n = taskIds.length;
+        this.successors = Adjacency.of(n, edgeFrom, edgeCount);
+        this.predecessors = Adjacency.of(n, edgeTo, edgeCount);
+
+        this.topoOrder = new int[n];
+        if (!sortTopologically(topoOrder)) {
+            throw new IllegalArgumentException("Task dependencies contain a cycle");
+        }
+        this.topoRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            topoRank[topoOrder[i]] = i;
+        }
+    }
+
+    private DependencyGraph(DependencyGraph source) {
+        this.taskIds = source.taskIds;
+        this.plannedStart = source.plannedStart.clone();
+        this.duration = source.duration.clone();
+        this.edgeCount = source.edgeCount;
+        this.edgeFrom = Arrays.copyOf(source.edgeFrom, edgeCount);
+        this.edgeTo = Arrays.copyOf(source.edgeTo, edgeCount);
+        this.edgeType = Arrays.copyOf(source.edgeType, edgeCount);
+        this.edgeLag = Arrays.copyOf(source.edgeLag, edgeCount);
+        this.successors = source.successors.compacted();
+        this.predecessors = source.predecessors.compacted();
+        this.topoOrder = source.topoOrder.clone();
+        this.topoRank = source.topoRank.clone();
+    }
+
+    public static DependencyGraph build(List<TaskScheduleRow> tasks, List<TaskDependencyEdge> edges,
+                                        LocalDate fallbackStart) {
+        int n = tasks.size();
+        TaskScheduleRow[] rows = tasks.toArray(new TaskScheduleRow[0]);
+        Arrays.sort(rows, (a, b) -> Long.compare(a.getId(), b.getId()));
+
+        int anchor = Integer.MAX_VALUE;
+        for (TaskScheduleRow row : rows) {
+            if (row.getStartDate() != null) {
+                anchor = Math.min(anchor, (int) row.getStartDate().toEpochDay());
+            }
+        }
+        if (anchor == Integer.MAX_VALUE) {
+            anchor = (int) (fallbackStart != null ? fallbackStart : LocalDate.now()).toEpochDay();
+        }
+
+        long[] ids = new long[n];
+        int[] start = new int[n];
+        int[] dur = new int[n];
+        for (int i = 0; i < n; i++) {
+            TaskScheduleRow row = rows[i];
+            ids[i] = row.getId();
+            start[i] = row.getStartDate() != null ? (int) row.getStartDate().toEpochDay() : anchor;
+            dur[i] = durationOf(row.getStartDate(), row.getEndDate());
+        }
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        byte[] type = new byte[edges.size()];
+        int[] lag = new int[edges.size()];
+        int m = 0;
+        for (TaskDependencyEdge edge : edges) {
+            int u = Arrays.binarySearch(ids, edge.getPredecessorTaskId());
+            int v = Arrays.binarySearch(ids, edge.getSuccessorTaskId());
+            if (u < 0 || v < 0) {
+                continue;
+            }
+            from[m] = u;
+            to[m] = v;
+            type[m] = encode(edge.getType());
+            lag[m] = edge.getLagDays() != null ? edge.getLagDays() : 0;
+            m++;
+        }
+        return new DependencyGraph(ids, start, dur,
+                Arrays.copyOf(from, m), Arrays.copyOf(to, m), Arrays.copyOf(type, m), Arrays.copyOf(lag, m));
+    }
+
+    /** An independent copy with compact adjacency, for publishing a snapshot of a graph that is being edited. */
+    DependencyGraph copy() {
+        return new DependencyGraph(this);
+    }
+
+    /**
+     * Adds the edge, or re-types an existing one. A new edge that runs against the topological order re-ranks
+     * only the tasks ranked between its ends (Pearce-Kelly); one that would close a cycle leaves the graph as
+     * it was and throws.
+     */
+    void putEdge(int from, int to, byte type, int lag) {
+        int existing = findEdge(from, to);
+        if (existing >= 0) {
+            edgeType[existing] = type;
+            edgeLag[existing] = lag;
+            return;
+        }
+        if (from == to) {
+            throw new IllegalArgumentException("Task dependencies contain a cycle");
+        }
+        if (topoRank[to] < topoRank[from]) {
+            reorder(from, to);
+        }
+        if (edgeCount == edgeFrom.length) {
+            int capacity = Math.max(16, edgeCount * 2);
+            edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+            edgeTo = Arrays.copyOf(edgeTo, capacity);
+            edgeType = Arrays.copyOf(edgeType, capacity);
+            edgeLag = Arrays.copyOf(edgeLag, capacity);
+        }
+        int e = edgeCount++;
+        edgeFrom[e] = from;
+        edgeTo[e] = to;
+        edgeType[e] = type;
+        edgeLag[e] = lag;
+        successors.add(from, e);
+        predecessors.add(to, e);
+    }
+
+    /** Removing an edge never invalidates the topological order, so only the two adjacency ranges change. */
+    void removeEdge(int from, int to) {
+        int e = findEdge(from, to);
+        if (e < 0) {
+            return;
+        }
+        successors.remove(from, e);
+        predecessors.remove(to, e);
+        // Keep edge ids dense by moving the last edge into the freed id
+        int last = --edgeCount;
+        if (e != last) {
+            edgeFrom[e] = edgeFrom[last];
+            edgeTo[e] = edgeTo[last];
+            edgeType[e] = edgeType[last];
+            edgeLag[e] = edgeLag[last];
+            successors.replace(edgeFrom[e], last, e);
+            predecessors.replace(edgeTo[e], last, e);
+        }
+    }
+
+    void setTaskDates(int index, int start, int days) {
+        plannedStart[index] = start;
+        duration[index] = days;
+    }
+
+    public int findEdge(int from, int to) {
+        for (int p = successors.from(from); p < successors.to(from); p++) {
+            int e = successors.edge(p);
+            if (edgeTo[e] == to) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    public static int durationOf(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return 1;
+        }
+        return (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+    }
+
+    public static byte encode(DependencyType type) {
+        return type != null ? (byte) type.ordinal() : FS;
+    }
+
+    public static DependencyType decode(byte type) {
+        return TYPES[type];
+    }
+
+    public int size() {
+        return taskIds.length;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    public int indexOf(long taskId) {
+        int i = Arrays.binarySearch(taskIds, taskId);
+        return i >= 0 ? i : -1;
+    }
+
+    public long taskId(int index) {
+        return taskIds[index];
+    }
+
+    public int plannedStart(int index) {
+        return plannedStart[index];
+    }
+
+    public int duration(int index) {
+        return duration[index];
+    }
+
+    public int[] durations() {
+        return duration.clone();
+    }
+
+    public int successorsFrom(int index) {
+        return successors.from(index);
+    }
+
+    public int successorsTo(int index) {
+        return successors.to(index);
+    }
+
+    public int predecessorsFrom(int index) {
+        return predecessors.from(index);
+    }
+
+    public int predecessorsTo(int index) {
+        return predecessors.to(index);
+    }
+
+    /** Edge id stored at a position of a successor range. */
+    public int successorEdge(int position) {
+        return successors.edge(position);
+    }
+
+    /** Edge id stored at a position of a predecessor range. */
+    public int predecessorEdge(int position) {
+        return predecessors.edge(position);
+    }
+
+    public int edgeFrom(int edge) {
+        return edgeFrom[edge];
+    }
+
+    public int edgeTo(int edge) {
+        return edgeTo[edge];
+    }
+
+    public byte edgeType(int edge) {
+        return edgeType[edge];
+    }
+
+    public int edgeLag(int edge) {
+        return edgeLag[edge];
+    }
+
+    public int topoOrder(int position) {
+        return topoOrder[position];
+    }
+
+    public int topoRank(int index) {
+        return topoRank[index];
+    }
+
+    // Pearce-Kelly for a new edge from -> to with rank(to) < rank(from): the tasks reachable from `to` and
+    // those reaching `from`, within that rank window, swap places among the ranks they already hold
+    private void reorder(int from, int to) {
+        int lower = topoRank[to];
+        int upper = topoRank[from];
+        if (visitMark == null) {
+            visitMark = new int[taskIds.length];
+        }
+        int[] forward = search(to, true, upper, from);
+        if (forward == null) {
+            throw new IllegalArgumentException("Task dependencies contain a cycle");
+        }
+        int[] backward = search(from, false, lower, -1);
+        long[] keyed = new long[forward.length + backward.length];
+        int k = 0;
+        for (int v : backward) {
+            keyed[k++] = ((long) topoRank[v] << 32) | v;
+        }
+        for (int v : forward) {
+            keyed[k++] = ((long) topoRank[v] << 32) | v;
+        }
+        Arrays.sort(keyed, 0, backward.length);
+        Arrays.sort(keyed, backward.length, keyed.length);
+        int[] ranks = new int[keyed.length];
+        for (int i = 0; i < keyed.length; i++) {
+            ranks[i] = (int) (keyed[i] >>> 32);
+        }
+        Arrays.sort(ranks);
+        // Predecessors of `from` first, then successors of `to`, each group keeping its relative order
+        for (int i = 0; i < keyed.length; i++) {
+            int v = (int) keyed[i];
+            topoRank[v] = ranks[i];
+            topoOrder[ranks[i]] = v;
+        }
+    }
+
+    // Tasks reached from seed along successors (forward) or predecessors without crossing the rank bound;
+    // null when the search reaches target
+    private int[] search(int seed, boolean forward, int bound, int target) {
+        Adjacency adjacency = forward ? successors : predecessors;
+        int mark = ++visit;
+        int[] found = new int[16];
+        int size = 0;
+        int head = 0;
+        visitMark[seed] = mark;
+        found[size++] = seed;
+        while (head < size) {
+            int u = found[head++];
+            for (int p = adjacency.from(u); p < adjacency.to(u); p++) {
+                int e = adjacency.edge(p);
+                int w = forward ? edgeTo[e] : edgeFrom[e];
+                if (w == target) {
+                    return null;
+                }
+                if ((forward ? topoRank[w] > bound : topoRank[w] < bound) || visitMark[w] == mark) {
+                    continue;
+                }
+                visitMark[w] = mark;
+                if (size == found.length) {
+                    found = Arrays.copyOf(found, size * 2);
+                }
+                found[size++] = w;
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    private boolean sortTopologically(int[] order) {
+        int n = taskIds.length;
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = predecessors.to(i) - predecessors.from(i);
+        }
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int u = order[head++];
+            for (int p = successors.from(u); p < successors.to(u); p++) {
+                int v = edgeTo[successors.edge(p)];
+                if (--inDegree[v] == 0) {
+                    order[tail++] = v;
+                }
+            }
+        }
+        return tail == n;
+    }
+
+    /**
+     * Edge ids grouped by task: task v's edges are at {@code slots[start[v] .. start[v] + count[v] - 1]}, with room
+     * up to {@code capacity[v]}. A task whose range is full moves to the end of the array with double the room,
+     * so an insert is amortized O(1); the array is repacked when it runs out of space.
+     */
+    private static final class Adjacency {
+
+        private final int[] start;
+        private final int[] count;
+        private final int[] capacity;
+        private int[] slots;
+        private int used;
+        private int reserved;
+
+        private Adjacency(int[] start, int[] count, int[] capacity, int[] slots, int used, int reserved) {
+            this.start = start;
+            this.count = count;
+            this.capacity = capacity;
+            this.slots = slots;
+            this.used = used;
+            this.reserved = reserved;
+        }
+
+        // Packed, with no spare room
+        static Adjacency of(int n, int[] endpoint, int m) {
+            int[] count = new int[n];
+            for (int e = 0; e < m; e++) {
+                count[endpoint[e]]++;
+            }
+            int[] start = new int[n];
+            for (int v = 1; v < n; v++) {
+                start[v] = start[v - 1] + count[v - 1];
+            }
+            int[] slots = new int[m];
+            int[] cursor = start.clone();
+            for (int e = 0; e < m; e++) {
+                slots[cursor[endpoint[e]]++] = e;
+            }
+            return new Adjacency(start, count, count.clone(), slots, m, m);
+        }
+
+        Adjacency compacted() {
+            int n = start.length;
+            int[] packedStart = new int[n];
+            int[] packed = new int[edgeTotal()];
+            int at = 0;
+            for (int v = 0; v < n; v++) {
+                packedStart[v] = at;
+                System.arraycopy(slots, start[v], packed, at, count[v]);
+                at += count[v];
+            }
+            return new Adjacency(packedStart, count.clone(), count.clone(), packed, at, at);
+        }
+
+        int from(int v) {
+            return start[v];
+        }
+
+        int to(int v) {
+            return start[v] + count[v];
+        }
+
+        int edge(int position) {
+            return slots[position];
+        }
+
+        void add(int v, int e) {
+            if (count[v] == capacity[v]) {
+                relocate(v, Math.max(4, capacity[v] * 2));
+            }
+            slots[start[v] + count[v]++] = e;
+        }
+
+        void remove(int v, int e) {
+            int last = start[v] + count[v] - 1;
+            for (int p = start[v]; p <= last; p++) {
+                if (slots[p] == e) {
+                    slots[p] = slots[last];
+                    count[v]--;
+                    return;
+                }
+            }
+        }
+
+        void replace(int v, int oldEdge, int newEdge) {
+            for (int p = start[v]; p < start[v] + count[v]; p++) {
+                if (slots[p] == oldEdge) {
+                    slots[p] = newEdge;
+                    return;
+                }
+            }
+        }
+
+        private void relocate(int v, int room) {
+            if (used + room > slots.length) {
+                repack(Math.max(16, 2 * (reserved + room)));
+            }
+            System.arraycopy(slots, start[v], slots, used, count[v]);
+            reserved += room - capacity[v];
+            start[v] = used;
+            capacity[v] = room;
+            used += room;
+        }
+
+        // Drops the ranges abandoned by relocations
+        private void repack(int length) {
+            int[] packed = new int[length];
+            int at = 0;
+            for (int v = 0; v < start.length; v++) {
+                System.arraycopy(slots, start[v], packed, at, count[v]);
+                start[v] = at;
+                at += capacity[v];
+            }
+            slots = packed;
+            used = at;
+        }
+
+        private int edgeTotal() {
+            int total = 0;
+            for (int c : count) {
+                total += c;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cached schedule of one project that absorbs single edits without a full recompute.
+ * Edits patch a private working graph in place, and an edit re-propagates early dates only along the
+ * successors whose dates actually move; late dates depend on the project finish and are recomputed lazily
+ * on the next read, as is the published copy of the graph.
+ */
+public final class IncrementalSchedule {
+
+    private final DependencyGraph graph;
+    private final RankQueue queue;
+    private DependencyGraph published;
+    private final int[] duration;
+    private int[] earlyStart;
+    private int[] earlyFinish;
+    private CriticalPathSchedule snapshot;
+
+    public IncrementalSchedule(DependencyGraph graph) {
+        CriticalPathSchedule full = CriticalPathSchedule.compute(graph);
+        int n = graph.size();
+        this.graph = graph.copy();
+        this.queue = new RankQueue(this.graph);
+        this.published = graph;
+        this.duration = graph.durations();
+        this.earlyStart = new int[n];
+        this.earlyFinish = new int[n];
+        for (int i = 0; i < n; i++) {
+            earlyStart[i] = full.earlyStart(i);
+            earlyFinish[i] = full.earlyFinish(i);
+        }
+        this.snapshot = full;
+    }
+
+    public synchronized DependencyGraph graph() {
+        if (published == null) {
+            published = graph.copy();
+        }
+        return published;
+    }
+
+    public synchronized boolean contains(long taskId) {
+        return graph.indexOf(taskId) >= 0;
+    }
+
+    /** True when {@code toId} can be reached from {@code fromId} by following successors. */
+    public synchronized boolean reaches(long fromId, long toId) {
+        int from = graph.indexOf(fromId);
+        int to = graph.indexOf(toId);
+        return from >= 0 && to >= 0 && CycleDetector.reaches(graph, from, to);
+    }
+
+    public synchronized CriticalPathSchedule snapshot() {
+        if (snapshot == null) {
+            int n = graph.size();
+            int[] es = earlyStart.clone();
+            int[] ef = earlyFinish.clone();
+            int[] ls = new int[n];
+            int[] lf = new int[n];
+            int finish = Integer.MIN_VALUE;
+            for (int i = 0; i < n; i++) {
+                finish = Math.max(finish, ef[i]);
+            }
+            CriticalPathSchedule.backwardPass(graph, duration, finish, ls, lf);
+            snapshot = CriticalPathSchedule.of(graph(), es, ef, ls, lf);
+        }
+        return snapshot;
+    }
+
+    public synchronized List<ScheduleChange> addEdge(long predecessorId, long successorId, byte type, int lag) {
+        int from = graph.indexOf(predecessorId);
+        int to = graph.indexOf(successorId);
+        if (from < 0 || to < 0) {
+            return List.of();
+        }
+        graph.putEdge(from, to, type, lag);
+        return propagate(to);
+    }
+
+    public synchronized List<ScheduleChange> removeEdge(long predecessorId, long successorId) {
+        int from = graph.indexOf(predecessorId);
+        int to = graph.indexOf(successorId);
+        if (from < 0 || to < 0) {
+            return List.of();
+        }
+        graph.removeEdge(from, to);
+        return propagate(to);
+    }
+
+    /** A {@code null} start keeps the task's planned start. */
+    public synchronized List<ScheduleChange> updateTask(long taskId, Integer start, int days) {
+        int index = graph.indexOf(taskId);
+        if (index < 0) {
+            return List.of();
+        }
+        graph.setTaskDates(index, start != null ? start : graph.plannedStart(index), days);
+        duration[index] = days;
+        return propagate(index);
+    }
+
+    private List<ScheduleChange> propagate(int seed) {
+        List<ScheduleChange> changes = new ArrayList<>();
+        queue.push(seed);
+        while (!queue.isEmpty()) {
+            int v = queue.pop();
+            int start = CriticalPathSchedule.earliestStart(graph, duration, earlyStart, earlyFinish, v);
+            int finish = start + duration[v];
+            if (start == earlyStart[v] && finish == earlyFinish[v]) {
+                continue;
+            }
+            changes.add(new ScheduleChange(graph.taskId(v), earlyStart[v], earlyFinish[v], start, finish));
+            earlyStart[v] = start;
+            earlyFinish[v] = finish;
+            for (int p = graph.successorsFrom(v); p < graph.successorsTo(v); p++) {
+                queue.push(graph.edgeTo(graph.successorEdge(p)));
+            }
+        }
+        snapshot = null;
+        published = null;
+        return changes;
+    }
+}
@@ -0,0 +1,192 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo forward passes over a {@link DependencyGraph} with triangular task durations.
+ * Iterations are grouped into fixed-size leaves, and leaves into one fork/join task per share of the pool. Each task
+ * allocates its duration and date arrays once, reuses them across its leaves and writes its outcomes into a disjoint
+ * slice of the shared result rows.
+ * <p>
+ * Outcome 0 is the project finish. Outcome {@code k + 1} is the finish of milestone {@code k}, i.e. the
+ * latest finish among the tasks that the deterministic schedule completes by the milestone due date.
+ */
+public final class MonteCarloSchedule {
+
+    // Fixed leaf size keeps the per-leaf seeds independent of the pool size
+    private static final int LEAF_ITERATIONS = 512;
+    // Tasks per worker, enough for stealing to even out uneven workers
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final DependencyGraph graph;
+    private final double[] low;
+    private final double[] mode;
+    private final double[] high;
+    // Task indexes by deterministic early finish; milestone k covers the first memberCount[k] of them
+    private final int[] finishOrder;
+    private final int[] memberCount;
+    // Length of the finishOrder prefix that some milestone covers
+    private final int covered;
+
+    public MonteCarloSchedule(DependencyGraph graph, double[] low, double[] mode, double[] high, int[] milestoneDue) {
+        this.graph = graph;
+        this.low = low;
+        this.mode = mode;
+        this.high = high;
+
+        CriticalPathSchedule plan = CriticalPathSchedule.compute(graph);
+        int n = graph.size();
+        long[] keyed = new long[n];
+        for (int i = 0; i < n; i++) {
+            keyed[i] = ((long) plan.earlyFinish(i) << 32) | i;
+        }
+        Arrays.sort(keyed);
+        this.finishOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            finishOrder[i] = (int) keyed[i];
+        }
+        this.memberCount = new int[milestoneDue.length];
+        for (int k = 0; k < milestoneDue.length; k++) {
+            // Finishes are exclusive, so a task is done by the due date when finish <= due + 1
+            int count = 0;
+            while (count < n && plan.earlyFinish(finishOrder[count]) <= milestoneDue[k] + 1) {
+                count++;
+            }
+            memberCount[k] = count;
+        }
+        int widest = 0;
+        for (int count : memberCount) {
+            widest = Math.max(widest, count);
+        }
+        this.covered = widest;
+    }
+
+    public Result run(ForkJoinPool pool, int iterations, long seed) {
+        int[][] outcomes = new int[memberCount.length + 1][iterations];
+        if (graph.size() > 0 && iterations > 0) {
+            int leaves = (iterations + LEAF_ITERATIONS - 1) / LEAF_ITERATIONS;
+            int tasks = pool.getParallelism() * TASKS_PER_WORKER;
+            int leavesPerTask = Math.max(1, (leaves + tasks - 1) / tasks);
+            pool.invoke(new Slice(outcomes, 0, leaves, leavesPerTask, seed));
+        }
+        for (int[] row : outcomes) {
+            Arrays.sort(row);
+        }
+        return new Result(outcomes, memberCount);
+    }
+
+    private int sample(SplittableRandom random, int v) {
+        double a = low[v];
+        double c = mode[v];
+        double b = high[v];
+        if (b <= a) {
+            return Math.max(1, (int) Math.round(c));
+        }
+        double u = random.nextDouble();
+        double days = u < (c - a) / (b - a)
+                ? a + Math.sqrt(u * (b - a) * (c - a))
+                : b - Math.sqrt((1 - u) * (b - a) * (b - c));
+        return Math.max(1, (int) Math.round(days));
+    }
+
+    private final class Slice extends RecursiveAction {
+
+        private final int[][] outcomes;
+        // Leaf indexes; leaf i covers iterations i * LEAF_ITERATIONS up to the next leaf or the last iteration
+        private final int fromLeaf;
+        private final int toLeaf;
+        private final int leavesPerTask;
+        private final long seed;
+
+        Slice(int[][] outcomes, int fromLeaf, int toLeaf, int leavesPerTask, long seed) {
+            this.outcomes = outcomes;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+            this.leavesPerTask = leavesPerTask;
+            this.seed = seed;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > leavesPerTask) {
+                int mid = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(new Slice(outcomes, fromLeaf, mid, leavesPerTask, seed),
+                        new Slice(outcomes, mid, toLeaf, leavesPerTask, seed));
+                return;
+            }
+            int n = graph.size();
+            int[] duration = new int[n];
+            int[] es = new int[n];
+            int[] ef = new int[n];
+            // latest[i]: latest finish among the first i + 1 tasks of finishOrder
+            int[] latest = new int[covered];
+            int iterations = outcomes[0].length;
+            for (int leaf = fromLeaf; leaf < toLeaf; leaf++) {
+                int from = leaf * LEAF_ITERATIONS;
+                int to = Math.min(iterations, from + LEAF_ITERATIONS);
+                // Seeded by the leaf start so a given seed always reproduces the same samples
+                SplittableRandom random = new SplittableRandom(seed ^ (from * 0x9E3779B97F4A7C15L));
+                for (int it = from; it < to; it++) {
+                    for (int v = 0; v < n; v++) {
+                        duration[v] = sample(random, v);
+                    }
+                    outcomes[0][it] = CriticalPathSchedule.forwardPass(graph, duration, es, ef);
+                    int running = Integer.MIN_VALUE;
+                    for (int i = 0; i < covered; i++) {
+                        running = Math.max(running, ef[finishOrder[i]]);
+                        latest[i] = running;
+                    }
+                    for (int k = 0; k < memberCount.length; k++) {
+                        outcomes[k + 1][it] = memberCount[k] > 0 ? latest[memberCount[k] - 1] : Integer.MIN_VALUE;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Sorted outcome samples; finishes are exclusive epoch days. */
+    public static final class Result {
+
+        private final int[][] outcomes;
+        private final int[] memberCount;
+
+        private Result(int[][] outcomes, int[] memberCount) {
+            this.outcomes = outcomes;
+            this.memberCount = memberCount;
+        }
+
+        public int iterations() {
+            return outcomes[0].length;
+        }
+
+        /** False for a milestone that no task is planned to finish by. */
+        public boolean hasSamples(int outcome) {
+            return iterations() > 0 && (outcome == 0 || memberCount[outcome - 1] > 0);
+        }
+
+        public int percentile(int outcome, double p) {
+            int[] row = outcomes[outcome];
+            int rank = (int) Math.ceil(p * row.length) - 1;
+            return row[Math.min(row.length - 1, Math.max(0, rank))];
+        }
+
+        /** Share of iterations whose finish is no later than {@code finish}. */
+        public double probabilityBy(int outcome, int finish) {
+            int[] row = outcomes[outcome];
+            int lo = 0;
+            int hi = row.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (row[mid] <= finish) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return row.length == 0 ? 0 : (double) lo / row.length;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pmis.demo.service.schedule;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of project schedules, keyed by project id.
+ * Loading happens outside the map lock so a slow load never blocks other projects.
+ */
+@Component
+public class ProjectScheduleCache {
+
+    private final Map<Long, IncrementalSchedule> schedules;
+
+    public ProjectScheduleCache(@Value("${pmis.schedule.cache-size:256}") int maxProjects) {
+        this.schedules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, IncrementalSchedule> eldest) {
+                return size() > maxProjects;
+            }
+        };
+    }
+
+    public IncrementalSchedule get(Long projectId, Function<Long, DependencyGraph> loader) {
+        IncrementalSchedule schedule = getIfPresent(projectId);
+        if (schedule != null) {
+            return schedule;
+        }
+        IncrementalSchedule loaded = new IncrementalSchedule(loader.apply(projectId));
+        synchronized (schedules) {
+            IncrementalSchedule raced = schedules.putIfAbsent(projectId, loaded);
+            return raced != null ? raced : loaded;
+        }
+    }
+
+    public IncrementalSchedule getIfPresent(Long projectId) {
+        synchronized (schedules) {
+            return schedules.get(projectId);
+        }
+    }
+
+    public void evict(Long projectId) {
+        synchronized (schedules) {
+            schedules.remove(projectId);
+        }
+    }
+}
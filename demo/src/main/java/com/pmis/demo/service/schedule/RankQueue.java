@@ -0,0 +1,72 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap of task indexes ordered by topological rank, with a membership flag per task.
+ * Popping in rank order guarantees every changed predecessor is settled before its successors.
+ */
+final class RankQueue {
+
+    private final DependencyGraph graph;
+    private final boolean[] queued;
+    private int[] heap;
+    private int size;
+
+    RankQueue(DependencyGraph graph) {
+        this.graph = graph;
+        this.queued = new boolean[graph.size()];
+        this.heap = new int[Math.max(16, Math.min(graph.size(), 1024))];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(int index) {
+        if (queued[index]) {
+            return;
+        }
+        queued[index] = true;
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int rank = graph.topoRank(index);
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= rank) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = rank;
+    }
+
+    int pop() {
+        int top = heap[0];
+        int last = heap[--size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= last) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        int index = graph.topoOrder(top);
+        queued[index] = false;
+        return index;
+    }
+}
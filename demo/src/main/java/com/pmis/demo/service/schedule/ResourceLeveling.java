@@ -0,0 +1,279 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Resource leveling by serial schedule generation. Tasks are scheduled one at a time once all their
+ * predecessors are placed, taken from a heap ordered by total float, then task priority, then index.
+ * Each task starts on the first day within {@code [earliest, lateStart]} where every resource it uses
+ * has room for its whole duration; late starts come from the unleveled schedule, so the project finish
+ * never moves. Tasks that do not fit anywhere in their float take the start with the least usage above
+ * capacity and are reported as unresolved.
+ * <p>
+ * Demands are given in CSR form per task; usage is tracked per resource and day over the project span,
+ * on top of a fixed background (other projects, undated allocations).
+ */
+public final class ResourceLeveling {
+
+    private static final int MAX_FLOAT_KEY = (1 << 28) - 1;
+
+    private final CriticalPathSchedule plan;
+    private final int[] priorityRank;
+    private final int[] demandOffsets;
+    private final int[] demandResource;
+    private final int[] demandAmount;
+    private final int[] capacity;
+    private final int origin;
+    private final int[][] background;
+
+    /**
+     * @param priorityRank   per task, 0 for the most urgent priority; at most 7
+     * @param demandOffsets  task i uses demands {@code demandOffsets[i] .. demandOffsets[i + 1] - 1}
+     * @param background     per resource, usage by day from {@code plan.projectStart()} to the project finish
+     */
+    public ResourceLeveling(CriticalPathSchedule plan, int[] priorityRank, int[] demandOffsets,
+                            int[] demandResource, int[] demandAmount, int[] capacity, int[][] background) {
+        this.plan = plan;
+        this.priorityRank = priorityRank;
+        this.demandOffsets = demandOffsets;
+        this.demandResource = demandResource;
+        this.demandAmount = demandAmount;
+        this.capacity = capacity;
+        this.origin = plan.projectStart();
+        this.background = background;
+    }
+
+    public Result level() {
+        DependencyGraph graph = plan.graph();
+        int n = graph.size();
+        int[] duration = graph.durations();
+        int[] es = new int[n];
+        int[] ef = new int[n];
+        boolean[] unresolved = new boolean[n];
+        int[][] usage = new int[background.length][];
+        for (int r = 0; r < usage.length; r++) {
+            usage[r] = background[r].clone();
+        }
+
+        int[] waiting = new int[n];
+        LongHeap eligible = new LongHeap(Math.max(16, Math.min(n, 1024)));
+        for (int v = 0; v < n; v++) {
+            waiting[v] = graph.predecessorsTo(v) - graph.predecessorsFrom(v);
+            if (waiting[v] == 0) {
+                eligible.push(key(v));
+            }
+        }
+        while (!eligible.isEmpty()) {
+            int v = (int) eligible.pop();
+            int earliest = CriticalPathSchedule.earliestStart(graph, duration, es, ef, v);
+            int latest = Math.max(earliest, plan.lateStart(v));
+            int start = earliest;
+            if (demandOffsets[v] < demandOffsets[v + 1]) {
+                start = firstFit(v, earliest, latest, duration[v], usage);
+                if (start < 0) {
+                    start = leastExcess(v, earliest, latest, duration[v], usage);
+                    unresolved[v] = true;
+                }
+                occupy(v, start, duration[v], usage);
+            }
+            es[v] = start;
+            ef[v] = start + duration[v];
+            for (int p = graph.successorsFrom(v); p < graph.successorsTo(v); p++) {
+                int w = graph.edgeTo(graph.successorEdge(p));
+                if (--waiting[w] == 0) {
+                    eligible.push(key(w));
+                }
+            }
+        }
+
+        int[] planned = new int[n];
+        for (int v = 0; v < n; v++) {
+            planned[v] = plan.earlyStart(v);
+        }
+        return new Result(es, unresolved, overallocatedDays(planned, duration), countOver(usage));
+    }
+
+    long key(int v) {
+        long slack = Math.min(MAX_FLOAT_KEY, Math.max(0, plan.totalFloat(v)));
+        return (slack << 35) | ((long) priorityRank[v] << 32) | v;
+    }
+
+    /** First start in {@code [earliest, latest]} where all demands fit, or -1. */
+    private int firstFit(int v, int earliest, int latest, int days, int[][] usage) {
+        for (int d = demandOffsets[v]; d < demandOffsets[v + 1]; d++) {
+            if (demandAmount[d] > capacity[demandResource[d]]) {
+                return -1;
+            }
+        }
+        int start = earliest;
+        while (start <= latest) {
+            int conflict = lastConflict(v, start, days, usage);
+            if (conflict < 0) {
+                return start;
+            }
+            // Any start up to the conflicting day still covers it
+            start = conflict + 1;
+        }
+        return -1;
+    }
+
+    /** Start in {@code [earliest, latest]} adding the least usage above capacity, earliest on ties. */
+    private int leastExcess(int v, int earliest, int latest, int days, int[][] usage) {
+        int width = latest - earliest + 1;
+        long[] excess = new long[width];
+        long[] prefix = new long[width + days];
+        for (int d = demandOffsets[v]; d < demandOffsets[v + 1]; d++) {
+            int[] row = usage[demandResource[d]];
+            int cap = capacity[demandResource[d]];
+            int amount = demandAmount[d];
+            for (int k = 0; k < width + days - 1; k++) {
+                int value = row[earliest - origin + k];
+                prefix[k + 1] = prefix[k] + Math.min(amount, Math.max(0, value + amount - cap));
+            }
+            for (int k = 0; k < width; k++) {
+                excess[k] += prefix[k + days] - prefix[k];
+            }
+        }
+        int best = 0;
+        for (int k = 1; k < width; k++) {
+            if (excess[k] < excess[best]) {
+                best = k;
+            }
+        }
+        return earliest + best;
+    }
+
+    private int lastConflict(int v, int start, int days, int[][] usage) {
+        int conflict = -1;
+        for (int d = demandOffsets[v]; d < demandOffsets[v + 1]; d++) {
+            int[] row = usage[demandResource[d]];
+            int limit = capacity[demandResource[d]] - demandAmount[d];
+            for (int day = start + days - 1 - origin; day >= start - origin && day + origin > conflict; day--) {
+                if (row[day] > limit) {
+                    conflict = day + origin;
+                    break;
+                }
+            }
+        }
+        return conflict;
+    }
+
+    private void occupy(int v, int start, int days, int[][] usage) {
+        for (int d = demandOffsets[v]; d < demandOffsets[v + 1]; d++) {
+            int[] row = usage[demandResource[d]];
+            for (int day = start - origin; day < start + days - origin; day++) {
+                row[day] += demandAmount[d];
+            }
+        }
+    }
+
+    private int overallocatedDays(int[] start, int[] duration) {
+        int[][] usage = new int[background.length][];
+        for (int r = 0; r < usage.length; r++) {
+            usage[r] = background[r].clone();
+        }
+        for (int v = 0; v < start.length; v++) {
+            occupy(v, start[v], duration[v], usage);
+        }
+        return countOver(usage);
+    }
+
+    private int countOver(int[][] usage) {
+        int count = 0;
+        for (int r = 0; r < usage.length; r++) {
+            for (int value : usage[r]) {
+                if (value > capacity[r]) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public static final class Result {
+
+        private final int[] start;
+        private final boolean[] unresolved;
+        private final int overallocatedBefore;
+        private final int overallocatedAfter;
+
+        private Result(int[] start, boolean[] unresolved, int overallocatedBefore, int overallocatedAfter) {
+            this.start = start;
+            this.unresolved = unresolved;
+            this.overallocatedBefore = overallocatedBefore;
+            this.overallocatedAfter = overallocatedAfter;
+        }
+
+        public int start(int index) {
+            return start[index];
+        }
+
+        public boolean isUnresolved(int index) {
+            return unresolved[index];
+        }
+
+        /** Resource-days above capacity in the unleveled early-start schedule. */
+        public int overallocatedBefore() {
+            return overallocatedBefore;
+        }
+
+        public int overallocatedAfter() {
+            return overallocatedAfter;
+        }
+    }
+
+    /** Binary min-heap of primitive longs. */
+    private static final class LongHeap {
+
+        private long[] heap;
+        private int size;
+
+        LongHeap(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(long value) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        }
+
+        long pop() {
+            long top = heap[0];
+            long last = heap[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= last) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            if (size > 0) {
+                heap[i] = last;
+            }
+            return top;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.pmis.demo.service.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class ScheduleChange {
+    private final long taskId;
+    private final int previousStart;
+    private final int previousFinish;
+    private final int earlyStart;
+    private final int earlyFinish;
+}
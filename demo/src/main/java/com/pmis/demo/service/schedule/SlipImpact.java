@@ -0,0 +1,63 @@
+package com.pmis.demo.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Effect of finishing one task {@code slipDays} later on an otherwise unchanged schedule.
+ * Only the successors whose early dates actually move are visited; the base schedule is not modified,
+ * so many candidates can be evaluated against the same snapshot concurrently.
+ */
+public final class SlipImpact {
+
+    private final List<ScheduleChange> changes;
+    private final int projectFinish;
+
+    private SlipImpact(List<ScheduleChange> changes, int projectFinish) {
+        this.changes = changes;
+        this.projectFinish = projectFinish;
+    }
+
+    public static SlipImpact evaluate(CriticalPathSchedule schedule, int index, int slipDays) {
+        DependencyGraph graph = schedule.graph();
+        int n = graph.size();
+        int[] duration = graph.durations();
+        int[] es = new int[n];
+        int[] ef = new int[n];
+        for (int i = 0; i < n; i++) {
+            es[i] = schedule.earlyStart(i);
+            ef[i] = schedule.earlyFinish(i);
+        }
+        duration[index] += slipDays;
+
+        List<ScheduleChange> changes = new ArrayList<>();
+        int finish = schedule.projectFinish();
+        RankQueue queue = new RankQueue(graph);
+        queue.push(index);
+        while (!queue.isEmpty()) {
+            int v = queue.pop();
+            int start = CriticalPathSchedule.earliestStart(graph, duration, es, ef, v);
+            int end = start + duration[v];
+            if (start == es[v] && end == ef[v]) {
+                continue;
+            }
+            changes.add(new ScheduleChange(graph.taskId(v), es[v], ef[v], start, end));
+            es[v] = start;
+            ef[v] = end;
+            finish = Math.max(finish, end);
+            for (int p = graph.successorsFrom(v); p < graph.successorsTo(v); p++) {
+                queue.push(graph.edgeTo(graph.successorEdge(p)));
+            }
+        }
+        return new SlipImpact(changes, finish);
+    }
+
+    /** Affected tasks in topological order, including the slipped task itself. */
+    public List<ScheduleChange> changes() {
+        return changes;
+    }
+
+    public int projectFinish() {
+        return projectFinish;
+    }
+}
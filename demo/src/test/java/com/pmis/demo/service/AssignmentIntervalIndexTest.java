@@ -0,0 +1,94 @@
+package com.pmis.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssignmentIntervalIndexTest {
+
+    @Test
+    void overlappingUsesHalfOpenSpans() {
+        // Task 1: days 0..4, task 2: days 5..9, task 3: days 2..19
+        AssignmentIntervalIndex.Intervals intervals = AssignmentIntervalIndex.Intervals.of(
+                new long[]{2, 1, 3}, new int[]{5, 0, 2}, new int[]{10, 5, 20});
+
+        assertEquals(List.of(1L, 3L), taskIds(intervals.overlapping(-1, 0, 5)));
+        assertEquals(List.of(3L, 2L), taskIds(intervals.overlapping(-1, 5, 6)));
+        assertEquals(List.of(3L), taskIds(intervals.overlapping(-1, 10, 30)));
+        assertEquals(List.of(), taskIds(intervals.overlapping(-1, 20, 30)));
+        // The task being checked never overlaps itself
+        assertEquals(List.of(1L), taskIds(intervals.overlapping(3, 0, 5)));
+    }
+
+    @Test
+    void pairsListsEachOverlapOnce() {
+        AssignmentIntervalIndex.Intervals intervals = AssignmentIntervalIndex.Intervals.of(
+                new long[]{1, 2, 3}, new int[]{0, 5, 2}, new int[]{5, 10, 6});
+
+        List<String> pairs = new ArrayList<>();
+        for (AssignmentIntervalIndex.Span[] pair : intervals.pairs()) {
+            pairs.add(pair[0].getTaskId() + "-" + pair[1].getTaskId());
+        }
+        assertEquals(List.of("1-3", "3-2"), pairs);
+    }
+
+    @Test
+    void withReplacesAndWithoutRemoves() {
+        AssignmentIntervalIndex.Intervals intervals = AssignmentIntervalIndex.Intervals.EMPTY
+                .with(1, 0, 5)
+                .with(2, 10, 15)
+                .with(1, 20, 25);
+
+        assertEquals(List.of(), taskIds(intervals.overlapping(-1, 0, 5)));
+        assertEquals(List.of(1L), taskIds(intervals.overlapping(-1, 22, 23)));
+        assertEquals(List.of(), taskIds(intervals.without(1).overlapping(-1, 22, 23)));
+        assertSame(intervals, intervals.without(99));
+    }
+
+    @Test
+    void matchesBruteForceAfterRandomEdits() {
+        Random random = new Random(3);
+        AssignmentIntervalIndex.Intervals intervals = AssignmentIntervalIndex.Intervals.EMPTY;
+        int[] starts = new int[40];
+        int[] ends = new int[40];
+        boolean[] present = new boolean[40];
+        for (int step = 0; step < 2000; step++) {
+            int task = random.nextInt(40);
+            if (random.nextInt(4) == 0) {
+                intervals = intervals.without(task);
+                present[task] = false;
+            } else {
+                starts[task] = random.nextInt(100);
+                ends[task] = starts[task] + 1 + random.nextInt(15);
+                intervals = intervals.with(task, starts[task], ends[task]);
+                present[task] = true;
+            }
+            int from = random.nextInt(110);
+            int to = from + 1 + random.nextInt(20);
+            long excluded = random.nextInt(40);
+            List<Long> expected = new ArrayList<>();
+            for (int t = 0; t < 40; t++) {
+                if (present[t] && t != excluded && starts[t] < to && ends[t] > from) {
+                    expected.add((long) t);
+                }
+            }
+            List<Long> actual = taskIds(intervals.overlapping(excluded, from, to));
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    private static List<Long> taskIds(List<AssignmentIntervalIndex.Span> spans) {
+        List<Long> ids = new ArrayList<>();
+        for (AssignmentIntervalIndex.Span span : spans) {
+            ids.add(span.getTaskId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,84 @@
+package com.pmis.demo.service;
+
+import com.pmis.demo.dto.EmployeeTaskSpanRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class WorkloadServiceTest {
+
+    private static final LocalDate DAY_0 = LocalDate.of(2025, 3, 1);
+    private static final int ORIGIN = (int) DAY_0.toEpochDay();
+
+    @Test
+    void sweepCountsConcurrentTasksPerEmployeeAndDay() {
+        List<EmployeeTaskSpanRow> spans = List.of(
+                span(10, 1, 0, 2),
+                span(10, 2, 2, 3),
+                // Back to back with task 2: ends the day before task 3 starts
+                span(10, 3, 4, 4),
+                span(20, 4, 1, 1),
+                // Not in the department
+                span(30, 5, 0, 4));
+
+        int[][] concurrent = WorkloadService.sweep(spans, Map.of(10L, 0, 20L, 1), 2, ORIGIN, 5);
+
+        assertArrayEquals(new int[]{1, 1, 2, 1, 1}, concurrent[0]);
+        assertArrayEquals(new int[]{0, 1, 0, 0, 0}, concurrent[1]);
+    }
+
+    @Test
+    void sweepClipsSpansToTheWindow() {
+        List<EmployeeTaskSpanRow> spans = List.of(
+                span(10, 1, -5, 1),
+                span(10, 2, 3, 40),
+                span(10, 3, -10, -1),
+                span(10, 4, 5, 9));
+
+        int[][] concurrent = WorkloadService.sweep(spans, Map.of(10L, 0), 1, ORIGIN, 5);
+
+        assertArrayEquals(new int[]{1, 1, 0, 1, 1}, concurrent[0]);
+    }
+
+    @Test
+    void sweepMatchesDayByDayCount() {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            int employees = 1 + random.nextInt(5);
+            int days = 1 + random.nextInt(30);
+            List<EmployeeTaskSpanRow> spans = new ArrayList<>();
+            int[][] expected = new int[employees][days];
+            int count = random.nextInt(40);
+            for (int i = 0; i < count; i++) {
+                int employee = random.nextInt(employees);
+                int start = random.nextInt(days + 10) - 5;
+                int end = start + random.nextInt(10);
+                spans.add(span(employee, i, start, end));
+                for (int day = Math.max(0, start); day <= Math.min(days - 1, end); day++) {
+                    expected[employee][day]++;
+                }
+            }
+            Map<Long, Integer> index = new HashMap<>();
+            for (int e = 0; e < employees; e++) {
+                index.put((long) e, e);
+            }
+
+            int[][] concurrent = WorkloadService.sweep(spans, index, employees, ORIGIN, days);
+
+            for (int e = 0; e < employees; e++) {
+                assertArrayEquals(expected[e], concurrent[e]);
+            }
+        }
+    }
+
+    private static EmployeeTaskSpanRow span(long employeeId, long taskId, int firstDay, int lastDay) {
+        return new EmployeeTaskSpanRow(employeeId, taskId, DAY_0.plusDays(firstDay), DAY_0.plusDays(lastDay));
+    }
+}
@@ -0,0 +1,136 @@
+package com.pmis.demo.service.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceTimelineTest {
+
+    private static final int UNDATED = Integer.MIN_VALUE;
+
+    @Test
+    void usageCountsDatedRangesInclusiveAndTheUndatedBaseline() {
+        // 2 on days 10..14, 3 on days 12..20, 1 on every day
+        ResourceTimeline timeline = ResourceTimeline.build(5,
+                new int[]{10, 12, UNDATED}, new int[]{14, 20, 0}, new int[]{2, 3, 1});
+
+        assertEquals(1, timeline.usageOn(9));
+        assertEquals(3, timeline.usageOn(10));
+        assertEquals(6, timeline.usageOn(12));
+        assertEquals(6, timeline.usageOn(14));
+        assertEquals(4, timeline.usageOn(15));
+        assertEquals(1, timeline.usageOn(21));
+        assertEquals(6, timeline.peakUsage(0, 100));
+        assertEquals(4, timeline.peakUsage(15, 30));
+        assertEquals(1, timeline.peakUsage(30, 40));
+        assertEquals(-1, timeline.available(11, 13));
+    }
+
+    @Test
+    void overallocationsAreMaximalRuns() {
+        ResourceTimeline timeline = ResourceTimeline.build(4,
+                new int[]{10, 12, 30}, new int[]{14, 20, 31}, new int[]{2, 3, 5});
+
+        List<int[]> runs = timeline.overallocations();
+        assertEquals(2, runs.size());
+        assertArrayEquals(new int[]{12, 14, 5}, runs.get(0));
+        assertArrayEquals(new int[]{30, 31, 5}, runs.get(1));
+    }
+
+    @Test
+    void baselineAboveCapacityOverallocatesEveryDay() {
+        ResourceTimeline timeline = ResourceTimeline.build(1,
+                new int[]{UNDATED, 5}, new int[]{0, 6}, new int[]{2, 1});
+
+        List<int[]> runs = timeline.overallocations();
+        assertEquals(1, runs.size());
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 3}, runs.get(0));
+    }
+
+    @Test
+    void rejectsReversedRanges() {
+        ResourceTimeline timeline = ResourceTimeline.build(1, new int[0], new int[0], new int[0]);
+
+        assertThrows(IllegalArgumentException.class, () -> timeline.peakUsage(5, 4));
+        assertEquals(0, timeline.peakUsage(4, 4));
+    }
+
+    @Test
+    void matchesDayByDayCountOnRandomAllocations() {
+        Random random = new Random(7);
+        for (int round = 0; round < 300; round++) {
+            int n = random.nextInt(20);
+            int[] start = new int[n];
+            int[] end = new int[n];
+            int[] amount = new int[n];
+            for (int i = 0; i < n; i++) {
+                amount[i] = 1 + random.nextInt(5);
+                start[i] = random.nextInt(6) == 0 ? UNDATED : 1000 + random.nextInt(60);
+                end[i] = start[i] == UNDATED ? 0 : start[i] + random.nextInt(20);
+            }
+            int capacity = random.nextInt(15);
+            ResourceTimeline timeline = ResourceTimeline.build(capacity, start, end, amount);
+
+            for (int query = 0; query < 20; query++) {
+                int from = 980 + random.nextInt(110);
+                int to = from + random.nextInt(40);
+                int peak = Integer.MIN_VALUE;
+                for (int day = from; day <= to; day++) {
+                    int usage = bruteUsage(start, end, amount, day);
+                    assertEquals(usage, timeline.usageOn(day));
+                    peak = Math.max(peak, usage);
+                }
+                assertEquals(peak, timeline.peakUsage(from, to));
+            }
+            for (int[] run : timeline.overallocations()) {
+                if (run[0] != Integer.MIN_VALUE) {
+                    assertTrue(timeline.usageOn(run[0]) > capacity && timeline.usageOn(run[0] - 1) <= capacity);
+                    assertTrue(timeline.usageOn(run[1]) > capacity && timeline.usageOn(run[1] + 1) <= capacity);
+                }
+            }
+        }
+    }
+
+    @Test
+    void withMatchesRebuildingFromScratch() {
+        Random random = new Random(11);
+        for (int round = 0; round < 300; round++) {
+            int n = 1 + random.nextInt(15);
+            int[] start = new int[n];
+            int[] end = new int[n];
+            int[] amount = new int[n];
+            ResourceTimeline timeline = ResourceTimeline.build(5, new int[0], new int[0], new int[0]);
+            for (int i = 0; i < n; i++) {
+                // Negative amounts take usage away, as when an allocation shrinks
+                amount[i] = random.nextInt(9) - 3;
+                start[i] = random.nextInt(5) == 0 ? UNDATED : 1000 + random.nextInt(30);
+                end[i] = start[i] == UNDATED ? Integer.MAX_VALUE : start[i] + random.nextInt(10);
+                timeline = timeline.with(start[i], end[i], amount[i]);
+            }
+            ResourceTimeline rebuilt = ResourceTimeline.build(5, start, end, amount);
+
+            for (int day = 990; day < 1050; day++) {
+                assertEquals(rebuilt.usageOn(day), timeline.usageOn(day), "day " + day);
+            }
+            assertEquals(rebuilt.peakUsage(995, 1045), timeline.peakUsage(995, 1045));
+            assertEquals(rebuilt.peakUsage(Integer.MIN_VALUE, Integer.MAX_VALUE),
+                    timeline.peakUsage(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    private static int bruteUsage(int[] start, int[] end, int[] amount, int day) {
+        int usage = 0;
+        for (int i = 0; i < amount.length; i++) {
+            if (start[i] == UNDATED || (day >= start[i] && day <= end[i])) {
+                usage += amount[i];
+            }
+        }
+        return usage;
+    }
+}
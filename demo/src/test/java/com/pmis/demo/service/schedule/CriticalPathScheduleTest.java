@@ -0,0 +1,94 @@
+package com.pmis.demo.service.schedule;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.TaskDependencyEdge;
+import com.pmis.demo.dto.TaskScheduleRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CriticalPathScheduleTest {
+
+    private static final LocalDate DAY_0 = LocalDate.of(2025, 1, 1);
+    private static final int ORIGIN = (int) DAY_0.toEpochDay();
+
+    @Test
+    void appliesEachDependencyTypeWithItsLag() {
+        // A takes 5 days; every other task depends on A with a different type
+        CriticalPathSchedule schedule = schedule(
+                List.of(task(1, 5), task(2, 3), task(3, 2), task(4, 2), task(5, 2)),
+                List.of(edge(1, 2, DependencyType.FS, 2),
+                        edge(1, 3, DependencyType.SS, 1),
+                        edge(1, 4, DependencyType.FF, 0),
+                        edge(1, 5, DependencyType.SF, 3)));
+        DependencyGraph graph = schedule.graph();
+
+        // FS: starts 2 days after A finishes
+        assertEquals(7, schedule.earlyStart(graph.indexOf(2)) - ORIGIN);
+        // SS: starts 1 day after A starts
+        assertEquals(1, schedule.earlyStart(graph.indexOf(3)) - ORIGIN);
+        // FF: finishes when A finishes
+        assertEquals(5, schedule.earlyFinish(graph.indexOf(4)) - ORIGIN);
+        // SF: finishes 3 days after A starts
+        assertEquals(3, schedule.earlyFinish(graph.indexOf(5)) - ORIGIN);
+        assertEquals(10, schedule.projectFinish() - ORIGIN);
+    }
+
+    @Test
+    void backwardPassInvertsEachDependencyType() {
+        CriticalPathSchedule schedule = schedule(
+                List.of(task(1, 5), task(2, 3), task(3, 2), task(4, 2), task(5, 2)),
+                List.of(edge(1, 2, DependencyType.FS, 2),
+                        edge(1, 3, DependencyType.SS, 1),
+                        edge(1, 4, DependencyType.FF, 0),
+                        edge(1, 5, DependencyType.SF, 3)));
+        DependencyGraph graph = schedule.graph();
+
+        // A is bound by its FS successor: B must start by day 7, so A must finish by day 5
+        assertEquals(5, schedule.lateFinish(graph.indexOf(1)) - ORIGIN);
+        assertTrue(schedule.isCritical(graph.indexOf(1)));
+        assertTrue(schedule.isCritical(graph.indexOf(2)));
+        assertEquals(7, schedule.totalFloat(graph.indexOf(3)));
+        assertEquals(5, schedule.totalFloat(graph.indexOf(4)));
+        assertEquals(7, schedule.totalFloat(graph.indexOf(5)));
+        assertFalse(schedule.isCritical(graph.indexOf(3)));
+    }
+
+    @Test
+    void negativeLagOverlapsTasks() {
+        CriticalPathSchedule schedule = schedule(
+                List.of(task(1, 4), task(2, 4)),
+                List.of(edge(1, 2, DependencyType.FS, -2)));
+
+        assertEquals(2, schedule.earlyStart(schedule.graph().indexOf(2)) - ORIGIN);
+        assertEquals(6, schedule.projectFinish() - ORIGIN);
+    }
+
+    @Test
+    void plannedStartActsAsStartNoEarlierThan() {
+        CriticalPathSchedule schedule = schedule(
+                List.of(task(1, 2), new TaskScheduleRow(2L, DAY_0.plusDays(10), DAY_0.plusDays(10), null)),
+                List.of(edge(1, 2, DependencyType.FS, 0)));
+        DependencyGraph graph = schedule.graph();
+
+        assertEquals(10, schedule.earlyStart(graph.indexOf(2)) - ORIGIN);
+        assertEquals(8, schedule.totalFloat(graph.indexOf(1)));
+    }
+
+    private static CriticalPathSchedule schedule(List<TaskScheduleRow> tasks, List<TaskDependencyEdge> edges) {
+        return CriticalPathSchedule.compute(DependencyGraph.build(tasks, edges, DAY_0));
+    }
+
+    private static TaskScheduleRow task(long id, int days) {
+        return new TaskScheduleRow(id, DAY_0, DAY_0.plusDays(days - 1), null);
+    }
+
+    private static TaskDependencyEdge edge(long from, long to, DependencyType type, int lag) {
+        return new TaskDependencyEdge(from, to, type, lag);
+    }
+}
@@ -0,0 +1,101 @@
+package com.pmis.demo.service.schedule;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.TaskDependencyEdge;
+import com.pmis.demo.dto.TaskScheduleRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CycleDetectorTest {
+
+    private static final LocalDate DAY_0 = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void reachesFollowsSuccessorsOnly() {
+        // 1 -> 2 -> 3, 1 -> 4
+        DependencyGraph graph = graph(5, new long[][]{{1, 2}, {2, 3}, {1, 4}});
+
+        assertTrue(CycleDetector.reaches(graph, graph.indexOf(1), graph.indexOf(3)));
+        assertTrue(CycleDetector.reaches(graph, graph.indexOf(2), graph.indexOf(2)));
+        assertFalse(CycleDetector.reaches(graph, graph.indexOf(3), graph.indexOf(1)));
+        assertFalse(CycleDetector.reaches(graph, graph.indexOf(4), graph.indexOf(3)));
+        assertFalse(CycleDetector.reaches(graph, graph.indexOf(1), graph.indexOf(5)));
+    }
+
+    @Test
+    void closesCycleChecksEdgesTogether() {
+        // 1 -> 2 -> 3
+        DependencyGraph graph = graph(4, new long[][]{{1, 2}, {2, 3}});
+        int one = graph.indexOf(1);
+        int three = graph.indexOf(3);
+        int four = graph.indexOf(4);
+
+        // 3 -> 1 closes a cycle on its own; 3 -> 4 and 4 -> 1 only do so together
+        boolean[] result = CycleDetector.closesCycle(graph,
+                new int[]{three, one, three, four},
+                new int[]{one, four, four, one});
+        assertArrayEquals(new boolean[]{true, true, true, true}, result);
+
+        assertArrayEquals(new boolean[]{false, false},
+                CycleDetector.closesCycle(graph, new int[]{one, four}, new int[]{four, three}));
+        assertArrayEquals(new boolean[]{true},
+                CycleDetector.closesCycle(graph, new int[]{four}, new int[]{four}));
+    }
+
+    @Test
+    void closesCycleMatchesReachabilityOnRandomGraphs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int n = 2 + random.nextInt(30);
+            // Edges only from lower to higher ids keep the base graph acyclic
+            List<long[]> edges = new ArrayList<>();
+            for (int i = 0; i < n * 2; i++) {
+                long a = 1 + random.nextInt(n);
+                long b = 1 + random.nextInt(n);
+                if (a < b) {
+                    edges.add(new long[]{a, b});
+                }
+            }
+            DependencyGraph graph = graph(n, edges.toArray(new long[0][]));
+            int from = random.nextInt(n);
+            int to = random.nextInt(n);
+            // A single new edge u -> v closes a cycle exactly when v already reaches u
+            assertEquals(CycleDetector.reaches(graph, to, from),
+                    CycleDetector.closesCycle(graph, new int[]{from}, new int[]{to})[0]);
+        }
+    }
+
+    @Test
+    void handlesLongChainsWithoutRecursion() {
+        int n = 100_000;
+        long[][] edges = new long[n - 1][];
+        for (int i = 1; i < n; i++) {
+            edges[i - 1] = new long[]{i, i + 1};
+        }
+        DependencyGraph graph = graph(n, edges);
+
+        assertTrue(CycleDetector.reaches(graph, graph.indexOf(1), graph.indexOf(n)));
+        assertTrue(CycleDetector.closesCycle(graph, new int[]{graph.indexOf(n)}, new int[]{graph.indexOf(1)})[0]);
+    }
+
+    private static DependencyGraph graph(int tasks, long[][] edges) {
+        List<TaskScheduleRow> rows = new ArrayList<>();
+        for (long id = 1; id <= tasks; id++) {
+            rows.add(new TaskScheduleRow(id, DAY_0, DAY_0, null));
+        }
+        List<TaskDependencyEdge> dependencies = new ArrayList<>();
+        for (long[] edge : edges) {
+            dependencies.add(new TaskDependencyEdge(edge[0], edge[1], DependencyType.FS, 0));
+        }
+        return DependencyGraph.build(rows, dependencies, DAY_0);
+    }
+}
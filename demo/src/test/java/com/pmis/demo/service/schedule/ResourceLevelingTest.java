@@ -0,0 +1,118 @@
+package com.pmis.demo.service.schedule;
+
+import com.pmis.demo.domain.enums.DependencyType;
+import com.pmis.demo.dto.TaskDependencyEdge;
+import com.pmis.demo.dto.TaskScheduleRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceLevelingTest {
+
+    private static final LocalDate DAY_0 = LocalDate.of(2025, 1, 1);
+    private static final int ORIGIN = (int) DAY_0.toEpochDay();
+
+    @Test
+    void keyOrdersByFloatThenPriorityThenIndex() {
+        // Floats 0, 1, 0, 0 with priority ranks 3, 0, 1, 1
+        ResourceLeveling leveling = withFloats(new int[]{0, 1, 0, 0}, new int[]{3, 0, 1, 1});
+
+        assertTrue(leveling.key(0) < leveling.key(1), "less float wins over priority");
+        assertTrue(leveling.key(2) < leveling.key(0), "priority breaks float ties");
+        assertTrue(leveling.key(2) < leveling.key(3), "index breaks remaining ties");
+    }
+
+    @Test
+    void keyClampsFloatIntoItsBits() {
+        // Negative float counts as none; float beyond the key's 28 bits saturates without touching the priority
+        ResourceLeveling leveling = withFloats(new int[]{-5, 0, Integer.MAX_VALUE, 1 << 28, (1 << 28) - 2},
+                new int[]{2, 2, 7, 7, 7});
+
+        assertEquals(leveling.key(1) - 1, leveling.key(0));
+        assertTrue(leveling.key(2) > 0);
+        assertEquals(7, (leveling.key(2) >>> 32) & 7);
+        assertEquals(leveling.key(2) >>> 35, leveling.key(3) >>> 35);
+        assertTrue(leveling.key(4) < leveling.key(3));
+    }
+
+    @Test
+    void delaysTasksWithFloatToFreeCapacity() {
+        // A (3 days) -> C (1 day); B (1 day) is independent and shares A's resource, which holds one
+        CriticalPathSchedule plan = CriticalPathSchedule.compute(DependencyGraph.build(
+                List.of(task(1, 3), task(2, 1), task(3, 1)),
+                List.of(new TaskDependencyEdge(1L, 3L, DependencyType.FS, 0)), DAY_0));
+
+        ResourceLeveling.Result result = new ResourceLeveling(plan, new int[]{0, 0, 0}, new int[]{0, 1, 2, 2},
+                new int[]{0, 0}, new int[]{1, 1}, new int[]{1}, new int[][]{new int[4]}).level();
+
+        assertEquals(0, result.start(0) - ORIGIN);
+        assertEquals(3, result.start(1) - ORIGIN);
+        assertEquals(3, result.start(2) - ORIGIN);
+        assertFalse(result.isUnresolved(1));
+        assertEquals(1, result.overallocatedBefore());
+        assertEquals(0, result.overallocatedAfter());
+    }
+
+    @Test
+    void higherPriorityGoesFirstAmongEqualFloat() {
+        // X and Y take 2 days each with 2 days of float; Z sets the project length and uses nothing
+        CriticalPathSchedule plan = CriticalPathSchedule.compute(DependencyGraph.build(
+                List.of(task(1, 2), task(2, 2), task(3, 4)), List.of(), DAY_0));
+        int[] demandOffsets = {0, 1, 2, 2};
+
+        ResourceLeveling.Result yFirst = new ResourceLeveling(plan, new int[]{1, 0, 0}, demandOffsets,
+                new int[]{0, 0}, new int[]{1, 1}, new int[]{1}, new int[][]{new int[4]}).level();
+        assertEquals(2, yFirst.start(0) - ORIGIN);
+        assertEquals(0, yFirst.start(1) - ORIGIN);
+
+        ResourceLeveling.Result xFirst = new ResourceLeveling(plan, new int[]{0, 1, 0}, demandOffsets,
+                new int[]{0, 0}, new int[]{1, 1}, new int[]{1}, new int[][]{new int[4]}).level();
+        assertEquals(0, xFirst.start(0) - ORIGIN);
+        assertEquals(2, xFirst.start(1) - ORIGIN);
+    }
+
+    @Test
+    void reportsTasksThatDoNotFitInTheirFloat() {
+        // Two critical tasks on a resource that holds one: the second cannot move
+        CriticalPathSchedule plan = CriticalPathSchedule.compute(DependencyGraph.build(
+                List.of(task(1, 2), task(2, 2)), List.of(), DAY_0));
+
+        ResourceLeveling.Result result = new ResourceLeveling(plan, new int[]{0, 0}, new int[]{0, 1, 2},
+                new int[]{0, 0}, new int[]{1, 1}, new int[]{1}, new int[][]{new int[2]}).level();
+
+        assertFalse(result.isUnresolved(0));
+        assertTrue(result.isUnresolved(1));
+        assertEquals(0, result.start(1) - ORIGIN);
+        assertEquals(2, result.overallocatedAfter());
+    }
+
+    // A schedule whose tasks have the given total floats, for inspecting heap keys
+    private static ResourceLeveling withFloats(int[] floats, int[] priorityRank) {
+        int n = floats.length;
+        TaskScheduleRow[] rows = new TaskScheduleRow[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = task(i + 1, 1);
+        }
+        DependencyGraph graph = DependencyGraph.build(List.of(rows), List.of(), DAY_0);
+        int[] es = new int[n];
+        int[] ef = new int[n];
+        int[] ls = new int[n];
+        int[] lf = new int[n];
+        for (int i = 0; i < n; i++) {
+            ef[i] = 1;
+            ls[i] = floats[i];
+            lf[i] = floats[i] + 1;
+        }
+        return new ResourceLeveling(CriticalPathSchedule.of(graph, es, ef, ls, lf), priorityRank,
+                new int[n + 1], new int[0], new int[0], new int[0], new int[0][]);
+    }
+
+    private static TaskScheduleRow task(long id, int days) {
+        return new TaskScheduleRow(id, DAY_0, DAY_0.plusDays(days - 1), null);
+    }
+}
@@ -245,173 +245,24 @@ END$$
 DELIMITER ;
 
 -- 감사 로그 자동 생성 트리거
+-- Task and task assignment changes are audited by the application after commit (AuditEventListener)
+-- and written to audit_log in batches, so user transactions no longer insert audit rows here.
 
 DELIMITER $$
 
-CREATE TRIGGER IF NOT EXISTS task_after_insert
-AFTER INSERT ON task
-FOR EACH ROW
-BEGIN
-    INSERT INTO audit_log (table_name, record_id, action, new_value)
-    VALUES (
-        'Task',
-        NEW.id,
-        'INSERT',
-        CONCAT('name=', IFNULL(NEW.name, 'NULL'), 
-               ', status=', IFNULL(NEW.status, 'NULL'), 
-               ', priority=', IFNULL(NEW.priority, 'NULL'))
-    );
-END$$
-
-CREATE TRIGGER IF NOT EXISTS task_after_update
-AFTER UPDATE ON task
-FOR EACH ROW
-BEGIN
-    DECLARE changes TEXT DEFAULT '';
-    
-    IF (OLD.name IS NULL AND NEW.name IS NOT NULL) OR 
-       (OLD.name IS NOT NULL AND NEW.name IS NULL) OR 
-       (OLD.name IS NOT NULL AND NEW.name IS NOT NULL AND OLD.name != NEW.name) THEN
-        SET changes = CONCAT(changes, 'name: ', IFNULL(OLD.name, 'NULL'), ' -> ', IFNULL(NEW.name, 'NULL'), '; ');
-    END IF;
-    
-    IF (OLD.status IS NULL AND NEW.status IS NOT NULL) OR 
-       (OLD.status IS NOT NULL AND NEW.status IS NULL) OR 
-       (OLD.status IS NOT NULL AND NEW.status IS NOT NULL AND OLD.status != NEW.status) THEN
-        SET changes = CONCAT(changes, 'status: ', IFNULL(OLD.status, 'NULL'), ' -> ', IFNULL(NEW.status, 'NULL'), '; ');
-    END IF;
-    
-    IF (OLD.priority IS NULL AND NEW.priority IS NOT NULL) OR 
-       (OLD.priority IS NOT NULL AND NEW.priority IS NULL) OR 
-       (OLD.priority IS NOT NULL AND NEW.priority IS NOT NULL AND OLD.priority != NEW.priority) THEN
-        SET changes = CONCAT(changes, 'priority: ', IFNULL(OLD.priority, 'NULL'), ' -> ', IFNULL(NEW.priority, 'NULL'), '; ');
-    END IF;
-    
-    IF (OLD.start_date IS NULL AND NEW.start_date IS NOT NULL) OR 
-       (OLD.start_date IS NOT NULL AND NEW.start_date IS NULL) OR 
-       (OLD.start_date IS NOT NULL AND NEW.start_date IS NOT NULL AND OLD.start_date != NEW.start_date) THEN
-        SET changes = CONCAT(changes, 'start_date: ', IFNULL(OLD.start_date, 'NULL'), ' -> ', IFNULL(NEW.start_date, 'NULL'), '; ');
-    END IF;
-    
-    IF (OLD.end_date IS NULL AND NEW.end_date IS NOT NULL) OR 
-       (OLD.end_date IS NOT NULL AND NEW.end_date IS NULL) OR 
-       (OLD.end_date IS NOT NULL AND NEW.end_date IS NOT NULL AND OLD.end_date != NEW.end_date) THEN
-        SET changes = CONCAT(changes, 'end_date: ', IFNULL(OLD.end_date, 'NULL'), ' -> ', IFNULL(NEW.end_date, 'NULL'), '; ');
-    END IF;
-    
-    IF changes != '' THEN
-        INSERT INTO audit_log (table_name, record_id, action, old_value, new_value)
-        VALUES (
-            'Task',
-            NEW.id,
-            'UPDATE',
-            CONCAT('name=', IFNULL(OLD.name, 'NULL'), 
-                   ', status=', IFNULL(OLD.status, 'NULL'), 
-                   ', priority=', IFNULL(OLD.priority, 'NULL')),
-            changes
-        );
-    END IF;
-END$$
-
-CREATE TRIGGER IF NOT EXISTS task_after_delete
-AFTER DELETE ON task
-FOR EACH ROW
-BEGIN
-    INSERT INTO audit_log (table_name, record_id, action, old_value)
-    VALUES (
-        'Task',
-        OLD.id,
-        'DELETE',
-        CONCAT('name=', IFNULL(OLD.name, 'NULL'), 
-               ', status=', IFNULL(OLD.status, 'NULL'), 
-               ', priority=', IFNULL(OLD.priority, 'NULL'))
-    );
-END$$
-
-CREATE TRIGGER IF NOT EXISTS task_assignment_after_insert
-AFTER INSERT ON task_assignment
-FOR EACH ROW
-BEGIN
-    INSERT INTO audit_log (table_name, record_id, action, employee_id, new_value)
-    VALUES (
-        'TaskAssignment',
-        NEW.task_id,
-        'INSERT',
-        NEW.employee_id,
-        CONCAT('task_id=', IFNULL(NEW.task_id, 'NULL'), 
-               ', employee_id=', IFNULL(NEW.employee_id, 'NULL'), 
-               ', role_id=', IFNULL(NEW.role_id, 'NULL'))
-    );
-END$$
-
-CREATE TRIGGER IF NOT EXISTS task_assignment_after_delete
-AFTER DELETE ON task_assignment
-FOR EACH ROW
-BEGIN
-    INSERT INTO audit_log (table_name, record_id, action, employee_id, old_value)
-    VALUES (
-        'TaskAssignment',
-        OLD.task_id,
-        'DELETE',
-        OLD.employee_id,
-        CONCAT('task_id=', IFNULL(OLD.task_id, 'NULL'), 
-               ', employee_id=', IFNULL(OLD.employee_id, 'NULL'), 
-               ', role_id=', IFNULL(OLD.role_id, 'NULL'))
-    );
-END$$
-
--- Resource allocation triggers: keep resource.quantity in sync
-CREATE TRIGGER IF NOT EXISTS resource_allocation_before_insert
-BEFORE INSERT ON resource_allocation
-FOR EACH ROW
-BEGIN
-    DECLARE available INT;
-    IF NEW.amount_used IS NULL OR NEW.amount_used <= 0 THEN
-        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'amount_used must be > 0';
-    END IF;
-    SELECT quantity INTO available FROM resource WHERE id = NEW.resource_id FOR UPDATE;
-    IF available IS NULL THEN
-        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Resource not found';
-    END IF;
-    IF available < NEW.amount_used THEN
-        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Insufficient resource quantity';
-    END IF;
-    UPDATE resource SET quantity = quantity - NEW.amount_used WHERE id = NEW.resource_id;
-END$$
-
-CREATE TRIGGER IF NOT EXISTS resource_allocation_before_update
-BEFORE UPDATE ON resource_allocation
-FOR EACH ROW
-BEGIN
-    DECLARE available INT;
-    DECLARE delta INT;
-    IF NEW.amount_used IS NULL OR NEW.amount_used <= 0 THEN
-        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'amount_used must be > 0';
-    END IF;
-    IF NEW.resource_id != OLD.resource_id THEN
-        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'resource_id cannot be changed';
-    END IF;
-    SET delta = NEW.amount_used - OLD.amount_used;
-    IF delta > 0 THEN
-        SELECT quantity INTO available FROM resource WHERE id = NEW.resource_id FOR UPDATE;
-        IF available IS NULL THEN
-            SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Resource not found';
-        END IF;
-        IF available < delta THEN
-            SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Insufficient resource quantity';
-        END IF;
-        UPDATE resource SET quantity = quantity - delta WHERE id = NEW.resource_id;
-    ELSEIF delta < 0 THEN
-        UPDATE resource SET quantity = quantity - delta WHERE id = NEW.resource_id; -- delta negative, so add back
-    END IF;
-END$$
-
-CREATE TRIGGER IF NOT EXISTS resource_allocation_after_delete
-AFTER DELETE ON resource_allocation
-FOR EACH ROW
-BEGIN
-    UPDATE resource SET quantity = quantity + OLD.amount_used WHERE id = OLD.resource_id;
-END$$
+DROP TRIGGER IF EXISTS task_after_insert$$
+DROP TRIGGER IF EXISTS task_after_update$$
+DROP TRIGGER IF EXISTS task_after_delete$$
+DROP TRIGGER IF EXISTS task_assignment_after_insert$$
+DROP TRIGGER IF EXISTS task_assignment_after_delete$$
+
+-- Resource allocation: resource.quantity is the capacity on any one day and is never adjusted by allocations.
+-- ResourceService checks each allocation against it for the task's planned dates, so no trigger touches
+-- resource here. Databases created before this change hold the remaining stock in quantity instead; convert
+-- them once with sql/migrate_resource_capacity.sql.
+DROP TRIGGER IF EXISTS resource_allocation_before_insert$$
+DROP TRIGGER IF EXISTS resource_allocation_before_update$$
+DROP TRIGGER IF EXISTS resource_allocation_after_delete$$
 
 DELIMITER ;
 
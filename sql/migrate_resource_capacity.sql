@@ -0,0 +1,13 @@
+USE pmis_db;
+
+-- One-time conversion for databases created while allocations were deducted from resource.quantity.
+-- quantity then held the remaining stock; it now holds the capacity on any one day, which is that stock plus
+-- everything currently allocated. Apply functions_permissions.sql first so the after-delete trigger that
+-- returned quantity is gone, then run this exactly once.
+UPDATE resource r
+JOIN (
+    SELECT resource_id, SUM(amount_used) AS allocated
+    FROM resource_allocation
+    GROUP BY resource_id
+) a ON a.resource_id = r.id
+SET r.quantity = r.quantity + a.allocated;
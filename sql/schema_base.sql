@@ -87,6 +87,17 @@ CREATE TABLE IF NOT EXISTS task_work_log (
     FOREIGN KEY (employee_id) REFERENCES employee(id) ON DELETE CASCADE
 );
 
+-- Pre-aggregated work log hours, maintained by the application on every work log write
+CREATE TABLE IF NOT EXISTS work_log_rollup (
+    scope ENUM('EMPLOYEE', 'TASK', 'PROJECT') NOT NULL,
+    scope_id INT NOT NULL,
+    granularity ENUM('DAY', 'WEEK', 'MONTH') NOT NULL,
+    bucket_start DATE NOT NULL,
+    hours DECIMAL(12,2) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    PRIMARY KEY (scope, scope_id, granularity, bucket_start)
+);
+
 CREATE TABLE IF NOT EXISTS task_comment (
     id INT AUTO_INCREMENT PRIMARY KEY,
     task_id INT NOT NULL,
@@ -142,16 +153,40 @@ CREATE TABLE IF NOT EXISTS audit_log (
     record_id INT NOT NULL,
     action ENUM('INSERT', 'UPDATE', 'DELETE') NOT NULL,
     employee_id INT,
+    project_id INT,
     old_value TEXT,
     new_value TEXT,
     changed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     ip_address VARCHAR(45),
     FOREIGN KEY (employee_id) REFERENCES employee(id) ON DELETE SET NULL,
-    INDEX idx_audit_table_record (table_name, record_id),
-    INDEX idx_audit_employee (employee_id),
+    INDEX idx_audit_table_record (table_name, record_id, changed_at),
+    INDEX idx_audit_employee (employee_id, changed_at),
+    INDEX idx_audit_project (project_id, changed_at),
     INDEX idx_audit_timestamp (changed_at)
 );
 
+-- Per-field changes of an audit_log entry, so audits can be filtered by field and value without LIKE
+CREATE TABLE IF NOT EXISTS audit_log_change (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    audit_log_id INT NOT NULL,
+    field_name VARCHAR(50) NOT NULL,
+    old_value VARCHAR(255),
+    new_value VARCHAR(255),
+    FOREIGN KEY (audit_log_id) REFERENCES audit_log(id) ON DELETE CASCADE,
+    INDEX idx_audit_change_entry (audit_log_id, field_name),
+    INDEX idx_audit_change_field (field_name, new_value)
+);
+
+-- Compressed task state of a project at taken_at, the starting point for as-of reconstruction from audit_log
+CREATE TABLE IF NOT EXISTS project_snapshot (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id INT NOT NULL,
+    taken_at DATETIME NOT NULL,
+    task_count INT NOT NULL,
+    payload MEDIUMBLOB NOT NULL,
+    INDEX idx_project_snapshot (project_id, taken_at)
+);
+
 -- Indexes
 CREATE INDEX idx_project_status ON project(status);
 CREATE INDEX idx_project_manager_id ON project(manager_id);
@@ -170,9 +205,13 @@ CREATE INDEX idx_risk_status ON project_risk(status);
 CREATE INDEX idx_risk_owner_id ON project_risk(owner_id);
 
 CREATE INDEX idx_worklog_task_id ON task_work_log(task_id);
+-- Covers the per-task hour aggregates (earned value) without touching the table rows
+CREATE INDEX idx_worklog_task_hours ON task_work_log(task_id, work_date, hours);
 CREATE INDEX idx_worklog_employee_date ON task_work_log(employee_id, work_date);
+CREATE INDEX idx_worklog_work_date ON task_work_log(work_date);
 
-CREATE INDEX idx_comment_task_id ON task_comment(task_id);
+-- Keyset order of the comment list: (commented_at, id) within a task
+CREATE INDEX idx_comment_task_time ON task_comment(task_id, commented_at);
 CREATE INDEX idx_comment_employee_time ON task_comment(employee_id, commented_at);
 
 CREATE INDEX idx_taskdep_successor ON task_dependency(successor_task_id);